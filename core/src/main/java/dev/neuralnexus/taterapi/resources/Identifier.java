@@ -17,16 +17,66 @@ import java.lang.invoke.MethodType;
 public final class Identifier {
     private static final Logger logger = Logger.create("TaterLibLite/Identifier");
 
+    /** Adapted to (String)Object, so that it can be called with invokeExact */
     private static final MethodHandle newIdentifier;
 
+    /**
+     * Direct-mapped caches of parsed identifiers, by string and by identity. Identifiers are
+     * immutable and slots hold immutable entries, so racing threads at worst parse twice.
+     */
+    private static final int CACHE_SIZE = 512;
+    private static final int CACHE_MASK = CACHE_SIZE - 1;
+    private static final Entry[] BY_ID = new Entry[CACHE_SIZE];
+    private static final Entry[] BY_IDENTIFIER = new Entry[CACHE_SIZE];
+
+    private record Entry(@NonNull String id, @NonNull Object identifier) {}
+
+    /**
+     * Parses an identifier, returning a cached instance if the same id was recently parsed.
+     *
+     * @param id the namespaced id, e.g. "minecraft:brand"
+     * @return the platform's identifier
+     */
     @SuppressWarnings("unchecked")
     public static <T> @NonNull T identifier(final @NonNull String id) {
+        final int slot = mix(id.hashCode()) & CACHE_MASK;
+        final Entry entry = BY_ID[slot];
+        if (entry != null && (entry.id == id || entry.id.equals(id))) {
+            return (T) entry.identifier;
+        }
+        final Object identifier;
         try {
-            // Can't invokeExact because of the duck typing
-            return (T) newIdentifier.invoke(id);
+            identifier = (Object) newIdentifier.invokeExact(id);
         } catch (final Throwable e) {
             throw new RuntimeException(e);
         }
+        final Entry created = new Entry(id, identifier);
+        BY_ID[slot] = created;
+        // The string form adds the default namespace if the id omitted it
+        final String string = identifier.toString();
+        BY_IDENTIFIER[mix(System.identityHashCode(identifier)) & CACHE_MASK] =
+                string.equals(id) ? created : new Entry(string, identifier);
+        return (T) identifier;
+    }
+
+    /**
+     * Gets the string form of an identifier, reusing the cached string for recently parsed
+     * identifiers rather than building it again.
+     *
+     * @param identifier the platform's identifier
+     * @return the namespaced id
+     */
+    public static @NonNull String asString(final @NonNull Object identifier) {
+        final Entry entry = BY_IDENTIFIER[mix(System.identityHashCode(identifier)) & CACHE_MASK];
+        if (entry != null && entry.identifier == identifier) {
+            return entry.id;
+        }
+        return identifier.toString();
+    }
+
+    private static int mix(final int hash) {
+        final int h = hash * 0x9E3779B9;
+        return h ^ h >>> 16;
     }
 
     // spotless:off
@@ -34,19 +84,21 @@ public final class Identifier {
         try {
             final MethodHandles.Lookup lookup = MethodHandles.lookup();
             final Class<?> clazz;
+            final MethodHandle handle;
             if (Constraint.noGreaterThan(MinecraftVersions.V16_5).result()) {
                 clazz = Class.forName("net.minecraft.util.ResourceLocation");
-                newIdentifier = lookup.findConstructor(clazz, MethodType.methodType(void.class, String.class));
+                handle = lookup.findConstructor(clazz, MethodType.methodType(void.class, String.class));
             } else if (Constraint.range(MinecraftVersions.V17, MinecraftVersions.V20_4).result()) {
                 clazz = Class.forName("net.minecraft.resources.ResourceLocation");
-                newIdentifier = lookup.findConstructor(clazz, MethodType.methodType(void.class, String.class));
+                handle = lookup.findConstructor(clazz, MethodType.methodType(void.class, String.class));
             } else if (Constraint.range(MinecraftVersions.V20_5, MinecraftVersions.V21_10).result()) {
                 clazz = Class.forName("net.minecraft.resources.ResourceLocation");
-                newIdentifier = lookup.findStatic(clazz, "parse", MethodType.methodType(clazz, String.class));
+                handle = lookup.findStatic(clazz, "parse", MethodType.methodType(clazz, String.class));
             } else { // min(MinecraftVersions.V21_11)
                 clazz = Class.forName("net.minecraft.resources.Identifier");
-                newIdentifier = lookup.findStatic(clazz, "parse", MethodType.methodType(clazz, String.class));
+                handle = lookup.findStatic(clazz, "parse", MethodType.methodType(clazz, String.class));
             }
+            newIdentifier = handle.asType(MethodType.methodType(Object.class, String.class));
         } catch (final ClassNotFoundException | IllegalAccessException | NoSuchMethodException e) {
             logger.error("Failed to initialize Identifier function", e);
             throw new RuntimeException(e);
@@ -15,6 +15,16 @@ val mainCompileOnly: Configuration by configurations.creating
 configurations.compileOnly.get().extendsFrom(mainCompileOnly)
 val commonCompileOnly: Configuration by configurations.getting
 
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += main.output
+    runtimeClasspath += main.output
+}
+val jmhImplementation: Configuration by configurations.getting {
+    extendsFrom(mainCompileOnly)
+}
+val jmhAnnotationProcessor: Configuration by configurations.getting
+configurations.testImplementation.get().extendsFrom(mainCompileOnly)
+
 //unimined.footgunChecks = false
 
 //unimined.minecraft(common) {
@@ -53,6 +63,27 @@ dependencies {
     commonCompileOnly(project(":base"))
     commonCompileOnly(project(":core"))
     commonCompileOnly(project(":metadata"))
+
+    testImplementation(libs.mojang.authlib)
+    testImplementation("org.junit.jupiter:junit-jupiter:5.7.1")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    jmhImplementation(libs.mojang.authlib)
+    jmhImplementation(libs.jmh.core)
+    jmhAnnotationProcessor(libs.jmh.generator)
+}
+
+tasks.test {
+    useJUnitPlatform()
+    maxHeapSize = "1G"
+}
+
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "Runs the network JMH benchmarks"
+    classpath = jmh.runtimeClasspath
+    mainClass = "org.openjdk.jmh.Main"
+    args(project.findProperty("jmhArgs")?.toString()?.split(" ") ?: listOf<String>())
 }
 
 tasks.jar {
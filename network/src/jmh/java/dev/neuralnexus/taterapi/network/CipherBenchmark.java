@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Compares the cipher stage against the array based approach of copying each packet out, calling
+ * {@link Cipher#update(byte[])} and wrapping the result.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CipherBenchmark {
+    @Param({"64", "1024", "16384"})
+    public int size;
+
+    @Param({"true", "false"})
+    public boolean direct;
+
+    private Cipher cipher;
+    private CipherBase base;
+    private ByteBuf packet;
+    private ByteBuf out;
+
+    @Setup(Level.Trial)
+    public void setup() throws CryptException {
+        final byte[] key = new byte[16];
+        final byte[] bytes = new byte[this.size];
+        final Random random = new Random(42);
+        random.nextBytes(key);
+        random.nextBytes(bytes);
+        this.cipher =
+                Crypt.getCipher(
+                        Cipher.ENCRYPT_MODE, new SecretKeySpec(key, Crypt.SYMMETRIC_ALGORITHM));
+        this.base = new CipherBase(this.cipher);
+        this.packet =
+                this.direct
+                        ? PooledByteBufAllocator.DEFAULT.directBuffer(this.size)
+                        : PooledByteBufAllocator.DEFAULT.heapBuffer(this.size);
+        this.packet.writeBytes(bytes);
+        this.out =
+                this.direct
+                        ? PooledByteBufAllocator.DEFAULT.directBuffer(this.size)
+                        : PooledByteBufAllocator.DEFAULT.heapBuffer(this.size);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.packet.release();
+        this.out.release();
+    }
+
+    @Benchmark
+    public ByteBuf encryptInto() throws Exception {
+        this.packet.readerIndex(0);
+        this.out.clear();
+        this.base.transform(this.packet, this.out);
+        return this.out;
+    }
+
+    @Benchmark
+    public ByteBuf decryptInPlace() throws Exception {
+        this.base.transform(this.packet);
+        return this.packet;
+    }
+
+    @Benchmark
+    public ByteBuf naive() {
+        final byte[] bytes = new byte[this.packet.readableBytes()];
+        this.packet.getBytes(0, bytes);
+        return Unpooled.wrappedBuffer(this.cipher.update(bytes));
+    }
+}
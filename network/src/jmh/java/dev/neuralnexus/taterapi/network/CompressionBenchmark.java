@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+
+/**
+ * Measures the compression stage on direct buffers of varying size and level, next to the common
+ * approach of copying each frame into a byte array and deflating with a fresh {@link Deflater}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompressionBenchmark {
+    private static final int THRESHOLD = 256;
+
+    @Param({"64", "1024", "16384", "262144"})
+    public int size;
+
+    @Param({"1", "6", "9"})
+    public int level;
+
+    private ByteBuf frame;
+    private ByteBuf compressed;
+    private EmbeddedChannel encoder;
+    private EmbeddedChannel decoder;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // Loosely packet shaped: runs of small values mixed with noise
+        final Random random = new Random(42);
+        this.frame = PooledByteBufAllocator.DEFAULT.directBuffer(this.size);
+        while (this.frame.isWritable()) {
+            this.frame.writeByte(random.nextInt(4) == 0 ? random.nextInt() : random.nextInt(8));
+        }
+        this.encoder = new EmbeddedChannel(new CompressionEncoder(THRESHOLD, this.level));
+        this.decoder = new EmbeddedChannel(new CompressionDecoder(THRESHOLD, true));
+        this.encoder.writeOutbound(this.frame.retainedDuplicate());
+        this.compressed = this.encoder.readOutbound();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.frame.release();
+        this.compressed.release();
+        this.encoder.finishAndReleaseAll();
+        this.decoder.finishAndReleaseAll();
+    }
+
+    @Benchmark
+    public int compress() {
+        this.encoder.writeOutbound(this.frame.retainedDuplicate());
+        final ByteBuf out = this.encoder.readOutbound();
+        final int length = out.readableBytes();
+        out.release();
+        return length;
+    }
+
+    @Benchmark
+    public int compressCopying() {
+        final ByteBuf out = PooledByteBufAllocator.DEFAULT.heapBuffer();
+        final byte[] input = new byte[this.frame.readableBytes()];
+        this.frame.getBytes(this.frame.readerIndex(), input);
+        final FriendlyByteBuf buf = new FriendlyByteBuf(out);
+        if (input.length < THRESHOLD) {
+            buf.writeVarInt(0).writeBytes(input);
+        } else {
+            final Deflater deflater = new Deflater(this.level);
+            final byte[] chunk = new byte[8192];
+            deflater.setInput(input);
+            deflater.finish();
+            buf.writeVarInt(input.length);
+            while (!deflater.finished()) {
+                buf.writeBytes(chunk, 0, deflater.deflate(chunk));
+            }
+            deflater.end();
+        }
+        final int length = out.readableBytes();
+        out.release();
+        return length;
+    }
+
+    @Benchmark
+    public int decompress() {
+        this.decoder.writeInbound(this.compressed.retainedDuplicate());
+        final ByteBuf out = this.decoder.readInbound();
+        final int length = out.readableBytes();
+        out.release();
+        return length;
+    }
+}
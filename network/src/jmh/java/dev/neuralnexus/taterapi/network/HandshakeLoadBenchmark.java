@@ -0,0 +1,218 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network;
+
+import com.google.gson.JsonObject;
+
+import dev.neuralnexus.taterapi.network.protocol.Packet;
+import dev.neuralnexus.taterapi.network.protocol.PacketFlow;
+import dev.neuralnexus.taterapi.network.protocol.handshake.ClientIntent;
+import dev.neuralnexus.taterapi.network.protocol.handshake.ClientIntentionPacket;
+import dev.neuralnexus.taterapi.network.protocol.login.ClientboundCustomQueryPacket;
+import dev.neuralnexus.taterapi.network.protocol.login.ServerboundCustomQueryAnswerPacket;
+import dev.neuralnexus.taterapi.network.protocol.login.custom.CustomQueryAnswerPayload;
+import dev.neuralnexus.taterapi.network.protocol.login.custom.CustomQueryPayload;
+import dev.neuralnexus.taterapi.network.protocol.ping.ClientboundPongResponsePacket;
+import dev.neuralnexus.taterapi.network.protocol.ping.ServerboundPingRequestPacket;
+import dev.neuralnexus.taterapi.network.protocol.status.ServerStatus;
+import dev.neuralnexus.taterapi.network.protocol.status.ServerboundStatusRequestPacket;
+import dev.neuralnexus.taterapi.network.protocol.status.StatusResponseCache;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load harness driving whole status and login sessions through the module's framing and packet
+ * codecs, with a client and a server {@link EmbeddedChannel} per benchmark thread, so no server is
+ * needed. A status session is a handshake, a status request and a ping, answered with a status
+ * response and a pong; a login session is a handshake, answered with a login plugin query, and the
+ * client's answer, as in proxy player info forwarding. <br>
+ * The throughput mode reports sessions and, through the {@code packets} counter, packets per
+ * second; the sample mode reports session latency percentiles, including p99. Set the concurrency
+ * with {@code -t}, and add {@code -prof gc} for the allocation rate, e.g. {@code ./gradlew
+ * :network:jmh -PjmhArgs="HandshakeLoad -t 4 -prof gc"}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(1)
+@Fork(1)
+public class HandshakeLoadBenchmark {
+    private static final int PROTOCOL_VERSION = 767;
+    private static final ServerStatus STATUS = status();
+    private static final CustomQueryPayload QUERY =
+            new CustomQueryPayload.Raw(
+                    "velocity:player_info",
+                    new FriendlyByteBuf(Unpooled.wrappedBuffer(new byte[] {4})));
+    private static final CustomQueryAnswerPayload ANSWER =
+            new CustomQueryAnswerPayload.Raw(
+                    new FriendlyByteBuf(Unpooled.wrappedBuffer(new byte[256])));
+
+    private final PacketEncoder clientEncoder =
+            new PacketEncoder(PacketFlow.SERVERBOUND, Protocol.HANDSHAKING);
+    private final PacketDecoder clientDecoder =
+            new PacketDecoder(PacketFlow.CLIENTBOUND, Protocol.STATUS);
+    private final PacketEncoder serverEncoder =
+            new PacketEncoder(PacketFlow.CLIENTBOUND, Protocol.STATUS);
+    private final PacketDecoder serverDecoder =
+            new PacketDecoder(PacketFlow.SERVERBOUND, Protocol.HANDSHAKING);
+    private final StatusResponseCache statusCache = new StatusResponseCache();
+    private final ClientIntentionPacket statusIntent =
+            new ClientIntentionPacket(PROTOCOL_VERSION, "localhost", 25565, ClientIntent.STATUS);
+    private final ClientIntentionPacket loginIntent =
+            new ClientIntentionPacket(PROTOCOL_VERSION, "localhost", 25565, ClientIntent.LOGIN);
+    private EmbeddedChannel client;
+    private EmbeddedChannel server;
+
+    /** Counts packets sent in either direction, reported as a rate in throughput mode */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Packets {
+        public long packets;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.packets = 0;
+        }
+    }
+
+    private static ServerStatus status() {
+        final JsonObject description = new JsonObject();
+        description.addProperty("text", "A Minecraft Server");
+        return new ServerStatus(
+                description,
+                Optional.of(new ServerStatus.Players(100, 12, List.of())),
+                Optional.of(new ServerStatus.Version("1.21.1", PROTOCOL_VERSION)),
+                Optional.empty(),
+                false);
+    }
+
+    /**
+     * Answers status requests and pings, and queries logins, following the protocol the client asks
+     * for
+     */
+    private final class Server extends SimpleChannelInboundHandler<Packet> {
+        @Override
+        protected void channelRead0(final ChannelHandlerContext ctx, final Packet packet) {
+            if (packet instanceof ClientIntentionPacket intention) {
+                final Protocol protocol =
+                        intention.intention() == ClientIntent.STATUS
+                                ? Protocol.STATUS
+                                : Protocol.LOGIN;
+                HandshakeLoadBenchmark.this.serverDecoder.protocol(protocol);
+                HandshakeLoadBenchmark.this.serverEncoder.protocol(protocol);
+                if (protocol == Protocol.LOGIN) {
+                    ctx.writeAndFlush(new ClientboundCustomQueryPacket(1, QUERY));
+                }
+            } else if (packet instanceof ServerboundCustomQueryAnswerPacket answer) {
+                close(answer.payload());
+            } else if (packet instanceof ServerboundStatusRequestPacket) {
+                ctx.write(HandshakeLoadBenchmark.this.statusCache.packet(STATUS));
+            } else if (packet instanceof ServerboundPingRequestPacket ping) {
+                ctx.writeAndFlush(new ClientboundPongResponsePacket(ping.time()));
+            }
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.client =
+                new EmbeddedChannel(
+                        new Varint21LengthFieldPrepender(),
+                        this.clientEncoder,
+                        new Varint21FrameDecoder(),
+                        this.clientDecoder);
+        this.server =
+                new EmbeddedChannel(
+                        new Varint21LengthFieldPrepender(),
+                        this.serverEncoder,
+                        new Varint21FrameDecoder(),
+                        this.serverDecoder,
+                        new Server());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.client.finishAndReleaseAll();
+        this.server.finishAndReleaseAll();
+    }
+
+    private static void close(final Object payload) {
+        if (payload instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (final Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /** Moves what one channel wrote into the other, the length prefix and frame of each packet */
+    private static void transfer(final EmbeddedChannel from, final EmbeddedChannel to) {
+        ByteBuf buf;
+        while ((buf = from.readOutbound()) != null) {
+            to.writeInbound(buf);
+        }
+    }
+
+    @Benchmark
+    public void status(final Packets packets, final Blackhole bh) {
+        this.clientEncoder.protocol(Protocol.HANDSHAKING);
+        this.serverDecoder.protocol(Protocol.HANDSHAKING);
+        this.clientDecoder.protocol(Protocol.STATUS);
+        this.client.writeOutbound(this.statusIntent);
+        this.clientEncoder.protocol(Protocol.STATUS);
+        this.client.writeOutbound(
+                ServerboundStatusRequestPacket.INSTANCE,
+                new ServerboundPingRequestPacket(System.nanoTime()));
+        transfer(this.client, this.server);
+        transfer(this.server, this.client);
+        packets.packets += 5;
+        bh.consume(this.client.<Object>readInbound());
+        bh.consume(this.client.<Object>readInbound());
+    }
+
+    @Benchmark
+    public void login(final Packets packets) {
+        this.clientEncoder.protocol(Protocol.HANDSHAKING);
+        this.serverDecoder.protocol(Protocol.HANDSHAKING);
+        this.clientDecoder.protocol(Protocol.LOGIN);
+        this.client.writeOutbound(this.loginIntent);
+        this.clientEncoder.protocol(Protocol.LOGIN);
+        transfer(this.client, this.server);
+        transfer(this.server, this.client);
+        final ClientboundCustomQueryPacket query = this.client.readInbound();
+        close(query.payload());
+        this.client.writeOutbound(
+                new ServerboundCustomQueryAnswerPacket(query.transactionId(), ANSWER));
+        transfer(this.client, this.server);
+        packets.packets += 3;
+    }
+}
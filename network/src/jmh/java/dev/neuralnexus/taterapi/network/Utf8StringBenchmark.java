@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link Utf8String#write} against the previous {@code getBytes} based encoder, and plain
+ * against interned reads. Run with {@code -PjmhArgs="Utf8StringBenchmark -prof gc"} to see the
+ * bytes allocated per write ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Utf8StringBenchmark {
+    @Param({"minecraft:brand", "BungeeCord", "§aWelcome to the server, ünïcödé ✓"})
+    public String string;
+
+    private ByteBuf buf;
+    private ByteBuf encoded;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.buf = Unpooled.buffer(256);
+        this.encoded = Utf8String.write(Unpooled.buffer(256), this.string, Short.MAX_VALUE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.buf.release();
+        this.encoded.release();
+    }
+
+    @Benchmark
+    public String read() {
+        this.encoded.readerIndex(0);
+        return Utf8String.read(this.encoded, Short.MAX_VALUE);
+    }
+
+    @Benchmark
+    public String readInterned() {
+        this.encoded.readerIndex(0);
+        return Utf8String.readInterned(this.encoded, Short.MAX_VALUE);
+    }
+
+    @Benchmark
+    public ByteBuf write() {
+        this.buf.writerIndex(0);
+        return Utf8String.write(this.buf, this.string, Short.MAX_VALUE);
+    }
+
+    @Benchmark
+    public ByteBuf writeLegacy() {
+        this.buf.writerIndex(0);
+        return legacyWrite(this.buf, this.string, Short.MAX_VALUE);
+    }
+
+    // The encoder Utf8String.write replaced, kept here as the baseline
+    private static ByteBuf legacyWrite(
+            final ByteBuf buf, final String string, final int maxLength) {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > maxLength) {
+            throw new IllegalArgumentException("String too big");
+        }
+        VarInt.write(buf, bytes.length);
+        buf.writeBytes(bytes);
+        return buf;
+    }
+}
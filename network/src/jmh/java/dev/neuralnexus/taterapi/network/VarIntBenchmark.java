@@ -0,0 +1,183 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the unrolled VarInt/VarLong codec against the previous byte-by-byte loops for every
+ * encoded length. The buffers are filled with {@link #COUNT} values of the same encoded size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VarIntBenchmark {
+    private static final int COUNT = 1024;
+    private static final int[] INT_SAMPLES = {1, 1 << 7, 1 << 14, 1 << 21, 1 << 28};
+    private static final long[] LONG_SAMPLES = {1L, 1L << 14, 1L << 28, 1L << 42, 1L << 56};
+
+    @Param({"1", "2", "3", "4", "5"})
+    public int bytes;
+
+    private ByteBuf ints;
+    private ByteBuf longs;
+    private int intValue;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.intValue = INT_SAMPLES[this.bytes - 1];
+        final long longValue = LONG_SAMPLES[this.bytes - 1];
+        this.ints = Unpooled.buffer(COUNT * VarInt.MAX_VARINT_SIZE);
+        this.longs = Unpooled.buffer(COUNT * 10);
+        for (int i = 0; i < COUNT; i++) {
+            VarInt.write(this.ints, this.intValue);
+            VarLong.write(this.longs, longValue);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.ints.release();
+        this.longs.release();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void readVarInt(final Blackhole bh) {
+        this.ints.readerIndex(0);
+        for (int i = 0; i < COUNT; i++) {
+            bh.consume(VarInt.read(this.ints));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void readVarIntLegacy(final Blackhole bh) {
+        this.ints.readerIndex(0);
+        for (int i = 0; i < COUNT; i++) {
+            bh.consume(legacyReadVarInt(this.ints));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void writeVarInt() {
+        this.ints.writerIndex(0);
+        for (int i = 0; i < COUNT; i++) {
+            VarInt.write(this.ints, this.intValue);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void writeVarIntLegacy() {
+        this.ints.writerIndex(0);
+        for (int i = 0; i < COUNT; i++) {
+            legacyWriteVarInt(this.ints, this.intValue);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void getByteSize(final Blackhole bh) {
+        for (int i = 0; i < COUNT; i++) {
+            bh.consume(VarInt.getByteSize(this.intValue + i));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void getByteSizeLegacy(final Blackhole bh) {
+        for (int i = 0; i < COUNT; i++) {
+            bh.consume(legacyGetByteSize(this.intValue + i));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void readVarLong(final Blackhole bh) {
+        this.longs.readerIndex(0);
+        for (int i = 0; i < COUNT; i++) {
+            bh.consume(VarLong.read(this.longs));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void readVarLongLegacy(final Blackhole bh) {
+        this.longs.readerIndex(0);
+        for (int i = 0; i < COUNT; i++) {
+            bh.consume(legacyReadVarLong(this.longs));
+        }
+    }
+
+    // The loops VarInt replaced, kept here as the baseline
+    private static int legacyGetByteSize(final int bytes) {
+        for (int i = 1; i < VarInt.MAX_VARINT_SIZE; ++i) {
+            if ((bytes & -1 << i * 7) == 0) {
+                return i;
+            }
+        }
+        return VarInt.MAX_VARINT_SIZE;
+    }
+
+    private static int legacyReadVarInt(final ByteBuf buf) {
+        int i = 0;
+        int j = 0;
+        byte b0;
+        do {
+            b0 = buf.readByte();
+            i |= (b0 & 127) << j++ * 7;
+            if (j > VarInt.MAX_VARINT_SIZE) {
+                throw new RuntimeException("VarInt too big");
+            }
+        } while ((b0 & 128) == 128);
+        return i;
+    }
+
+    private static long legacyReadVarLong(final ByteBuf buf) {
+        long l = 0L;
+        int i = 0;
+        byte b;
+        do {
+            b = buf.readByte();
+            l |= (long) (b & 127) << i++ * 7;
+            if (i > 10) {
+                throw new RuntimeException("VarLong too big");
+            }
+        } while ((b & 128) == 128);
+        return l;
+    }
+
+    private static void legacyWriteVarInt(final ByteBuf buf, int varInt) {
+        while ((varInt & -128) != 0) {
+            buf.writeByte(varInt & 127 | 128);
+            varInt >>>= 7;
+        }
+        buf.writeByte(varInt);
+    }
+}
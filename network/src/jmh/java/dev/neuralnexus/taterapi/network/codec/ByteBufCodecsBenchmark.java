@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network.codec;
+
+import dev.neuralnexus.taterapi.network.FriendlyByteBuf;
+
+import io.netty.buffer.Unpooled;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round trips a nested payload, a list of records with optional and primitive array fields plus a
+ * map, through {@link ByteBufCodecs} combinators and through hand-written {@link FriendlyByteBuf}
+ * calls with boxed optionals and lists.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ByteBufCodecsBenchmark {
+    public record Entry(String name, OptionalLong time, int[] values, boolean flag) {}
+
+    public record Nested(int id, List<Entry> entries, Map<String, String> tags) {}
+
+    private static final StreamCodec<FriendlyByteBuf, Entry> ENTRY =
+            RecordCodecBuilder.builder(MethodHandles.lookup(), FriendlyByteBuf.class, Entry.class)
+                    .add(ByteBufCodecs.STRING_UTF8)
+                    .add(ByteBufCodecs.optionalLong(ByteBufCodecs.LONG))
+                    .add(ByteBufCodecs.intArray(ByteBufCodecs.VAR_INT, 64))
+                    .addBoolean(ByteBufCodecs.BOOL)
+                    .build();
+    private static final StreamCodec<FriendlyByteBuf, Nested> COMBINATORS =
+            RecordCodecBuilder.builder(MethodHandles.lookup(), FriendlyByteBuf.class, Nested.class)
+                    .addInt(ByteBufCodecs.VAR_INT)
+                    .add(ByteBufCodecs.list(ENTRY, 64))
+                    .add(
+                            ByteBufCodecs.mapOf(
+                                    ByteBufCodecs.STRING_UTF8, ByteBufCodecs.STRING_UTF8, 64))
+                    .build();
+    private static final StreamCodec<FriendlyByteBuf, Nested> HAND_WRITTEN =
+            StreamCodec.of(ByteBufCodecsBenchmark::encode, ByteBufCodecsBenchmark::decode);
+
+    private Nested nested;
+    private FriendlyByteBuf buf;
+
+    @Setup
+    public void setup() {
+        final List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            entries.add(
+                    new Entry(
+                            "entry-" + i,
+                            i % 3 == 0 ? OptionalLong.empty() : OptionalLong.of(1L << (i * 5)),
+                            new int[] {i, i * 300, -i},
+                            i % 2 == 0));
+        }
+        final Map<String, String> tags = new HashMap<>();
+        for (int i = 0; i < 4; i++) {
+            tags.put("key" + i, "value" + i);
+        }
+        this.nested = new Nested(42, entries, tags);
+        this.buf = new FriendlyByteBuf(Unpooled.buffer(1024));
+    }
+
+    @Benchmark
+    public Nested combinators() {
+        this.buf.clear();
+        COMBINATORS.encode(this.buf, this.nested);
+        return COMBINATORS.decode(this.buf);
+    }
+
+    @Benchmark
+    public Nested handWritten() {
+        this.buf.clear();
+        HAND_WRITTEN.encode(this.buf, this.nested);
+        return HAND_WRITTEN.decode(this.buf);
+    }
+
+    // The shape user code ends up with today: per-element lambdas and boxed optionals
+
+    private static void encode(final FriendlyByteBuf output, final Nested value) {
+        output.writeVarInt(value.id());
+        output.writeVarInt(value.entries().size());
+        for (final Entry entry : value.entries()) {
+            output.writeUtf(entry.name());
+            output.writeOptional(
+                    entry.time().isPresent()
+                            ? Optional.of(entry.time().getAsLong())
+                            : Optional.empty(),
+                    FriendlyByteBuf::writeLong);
+            output.writeVarInt(entry.values().length);
+            for (final int v : entry.values()) {
+                output.writeVarInt(v);
+            }
+            output.writeBoolean(entry.flag());
+        }
+        output.writeVarInt(value.tags().size());
+        value.tags()
+                .forEach(
+                        (k, v) -> {
+                            output.writeUtf(k);
+                            output.writeUtf(v);
+                        });
+    }
+
+    private static Nested decode(final FriendlyByteBuf input) {
+        final int id = input.readVarInt();
+        final int count = input.readVarInt();
+        final List<Entry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final String name = input.readUtf();
+            final OptionalLong time =
+                    input.readOptional(FriendlyByteBuf::readLong)
+                            .map(OptionalLong::of)
+                            .orElseGet(OptionalLong::empty);
+            final int[] values = new int[input.readVarInt()];
+            for (int j = 0; j < values.length; j++) {
+                values[j] = input.readVarInt();
+            }
+            entries.add(new Entry(name, time, values, input.readBoolean()));
+        }
+        final int tagCount = input.readVarInt();
+        final Map<String, String> tags = new HashMap<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.put(input.readUtf(), input.readUtf());
+        }
+        return new Nested(id, entries, tags);
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network.codec;
+
+import dev.neuralnexus.taterapi.network.FriendlyByteBuf;
+import dev.neuralnexus.taterapi.network.protocol.handshake.ClientIntent;
+import dev.neuralnexus.taterapi.network.protocol.handshake.ClientIntentionPacket;
+
+import io.netty.buffer.Unpooled;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the hand-written {@link ClientIntentionPacket} codec with one derived by {@link
+ * RecordCodecBuilder}, both from a constant and from a field the JIT can't fold. The generated
+ * codec only keeps up from a constant; through a field its method handles can't be inlined.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecordCodecBenchmark {
+    private static final StreamCodec<FriendlyByteBuf, ClientIntentionPacket> HAND_WRITTEN =
+            ClientIntentionPacket.STREAM_CODEC;
+    private static final StreamCodec<FriendlyByteBuf, ClientIntentionPacket> GENERATED =
+            RecordCodecBuilder.builder(
+                            MethodHandles.lookup(),
+                            FriendlyByteBuf.class,
+                            ClientIntentionPacket.class)
+                    .addInt(FriendlyByteBuf::writeVarInt, FriendlyByteBuf::readVarInt)
+                    .add(FriendlyByteBuf::writeUtf, buf -> buf.readUtf(255))
+                    .addInt(FriendlyByteBuf::writeShort, FriendlyByteBuf::readUnsignedShort)
+                    .add(
+                            (buf, intent) -> buf.writeVarInt(intent.id()),
+                            buf -> ClientIntent.byId(buf.readVarInt()))
+                    .build();
+
+    private final ClientIntentionPacket packet =
+            new ClientIntentionPacket(773, "play.example.com", 25565, ClientIntent.LOGIN);
+    private StreamCodec<FriendlyByteBuf, ClientIntentionPacket> handWritten;
+    private StreamCodec<FriendlyByteBuf, ClientIntentionPacket> generated;
+    private FriendlyByteBuf buf;
+
+    @Setup
+    public void setup() {
+        this.handWritten = HAND_WRITTEN;
+        this.generated = GENERATED;
+        this.buf = new FriendlyByteBuf(Unpooled.buffer(64));
+    }
+
+    @Benchmark
+    public ClientIntentionPacket handWritten() {
+        this.buf.clear();
+        HAND_WRITTEN.encode(this.buf, this.packet);
+        return HAND_WRITTEN.decode(this.buf);
+    }
+
+    @Benchmark
+    public ClientIntentionPacket generated() {
+        this.buf.clear();
+        GENERATED.encode(this.buf, this.packet);
+        return GENERATED.decode(this.buf);
+    }
+
+    @Benchmark
+    public ClientIntentionPacket handWrittenField() {
+        this.buf.clear();
+        this.handWritten.encode(this.buf, this.packet);
+        return this.handWritten.decode(this.buf);
+    }
+
+    @Benchmark
+    public ClientIntentionPacket generatedField() {
+        this.buf.clear();
+        this.generated.encode(this.buf, this.packet);
+        return this.generated.decode(this.buf);
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network.protocol.status;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cached favicon encoding and the streaming decoder against the previous
+ * encode-per-call and regex based implementations, for a 6 KiB icon.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FaviconBenchmark {
+    private static final String PREFIX = "data:image/png;base64,";
+
+    private ServerStatus.Favicon favicon;
+    private String encoded;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final byte[] icon = new byte[6 * 1024];
+        new Random(42).nextBytes(icon);
+        this.favicon = new ServerStatus.Favicon(icon);
+        this.encoded = this.favicon.encoded();
+    }
+
+    @Benchmark
+    public String encode() {
+        return ServerStatus.Favicon.CODEC.encode(this.favicon).unwrap();
+    }
+
+    @Benchmark
+    public String encodeLegacy() {
+        return PREFIX
+                + new String(
+                        Base64.getEncoder().encode(this.favicon.iconBytes()),
+                        StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public ServerStatus.Favicon decode() {
+        return ServerStatus.Favicon.CODEC.decode(this.encoded).unwrap();
+    }
+
+    @Benchmark
+    public ServerStatus.Favicon decodeLegacy() {
+        final String base64 = this.encoded.substring(PREFIX.length()).replaceAll("\n", "");
+        return new ServerStatus.Favicon(
+                Base64.getDecoder().decode(base64.getBytes(StandardCharsets.UTF_8)));
+    }
+}
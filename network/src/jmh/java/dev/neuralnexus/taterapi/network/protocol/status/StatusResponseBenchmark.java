@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network.protocol.status;
+
+import com.google.gson.JsonObject;
+
+import dev.neuralnexus.taterapi.mc.server.players.NameAndId;
+import dev.neuralnexus.taterapi.network.FriendlyByteBuf;
+
+import io.netty.buffer.Unpooled;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encodes a typical status response through Gson on every call, as the packet used to, and through
+ * {@link StatusResponseCache} with and without a TTL. The cached paths are given a freshly built
+ * but equal status each time, as a server building it per ping would.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatusResponseBenchmark {
+    private final FriendlyByteBuf out = new FriendlyByteBuf(Unpooled.buffer(4096));
+    private final StatusResponseCache cache = new StatusResponseCache();
+    private final StatusResponseCache ttlCache = new StatusResponseCache(Duration.ofSeconds(1));
+    private final List<NameAndId> sample = new ArrayList<>();
+    private byte[] icon;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        for (int i = 0; i < 12; i++) {
+            this.sample.add(new NameAndId(UUID.randomUUID(), "Player" + i));
+        }
+        this.icon = new byte[6 * 1024];
+        new Random(42).nextBytes(this.icon);
+    }
+
+    private ServerStatus status() {
+        final JsonObject description = new JsonObject();
+        description.addProperty("text", "A Minecraft Server");
+        return new ServerStatus(
+                description,
+                Optional.of(new ServerStatus.Players(100, 12, List.copyOf(this.sample))),
+                Optional.of(new ServerStatus.Version("1.21.1", 767)),
+                Optional.of(new ServerStatus.Favicon(this.icon)),
+                false);
+    }
+
+    @Benchmark
+    public FriendlyByteBuf gson() {
+        this.out.clear();
+        return this.out.writeUtf(ServerStatus.CODEC.encode(this.status()).result().orElseThrow());
+    }
+
+    @Benchmark
+    public FriendlyByteBuf cached() {
+        this.out.clear();
+        return this.out.writeBytes(this.cache.frame(this.status()));
+    }
+
+    @Benchmark
+    public FriendlyByteBuf cachedTtl() {
+        this.out.clear();
+        return this.out.writeBytes(this.ttlCache.frame(this::status));
+    }
+}
@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network;
+
+import io.netty.buffer.ByteBuf;
+
+import org.jspecify.annotations.NonNull;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Debug aid recording where each buffer from {@link FriendlyByteBuf#FriendlyByteBuf()} was
+ * allocated, so that buffers which were never released can be reported. Disabled by default, in
+ * which case allocation only pays for a volatile read.
+ */
+final class BufferLeakTracker {
+    private static final Map<ByteBuf, Throwable> LIVE =
+            Collections.synchronizedMap(new IdentityHashMap<>());
+    private static volatile boolean enabled;
+
+    private BufferLeakTracker() {}
+
+    static boolean enabled() {
+        return enabled;
+    }
+
+    static void enabled(final boolean enabled) {
+        BufferLeakTracker.enabled = enabled;
+        if (!enabled) {
+            LIVE.clear();
+        }
+    }
+
+    static void track(final @NonNull ByteBuf buf) {
+        LIVE.put(buf, new Throwable("Allocated " + buf.getClass().getSimpleName()));
+    }
+
+    /**
+     * Builds a report of every tracked buffer that is still referenced, dropping the released ones.
+     *
+     * @return the allocation site of each unreleased buffer, empty if there are none
+     */
+    static @NonNull List<String> report() {
+        final List<String> leaks = new ArrayList<>();
+        synchronized (LIVE) {
+            LIVE.entrySet()
+                    .removeIf(
+                            entry -> {
+                                if (entry.getKey().refCnt() == 0) {
+                                    return true;
+                                }
+                                final StringWriter trace = new StringWriter();
+                                entry.getValue().printStackTrace(new PrintWriter(trace));
+                                leaks.add(trace.toString());
+                                return false;
+                            });
+        }
+        return leaks;
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network;
+
+import io.netty.buffer.ByteBuf;
+
+import org.jspecify.annotations.NonNull;
+
+import javax.crypto.Cipher;
+import javax.crypto.ShortBufferException;
+
+/**
+ * Runs a connection's stream cipher over buffer contents without allocating an array per packet.
+ * Heap buffers are read from and written to their backing arrays directly, and everything else is
+ * staged through scratch arrays owned by the connection. The cipher's input and output never share
+ * an array, since SunJCE copies the whole input when they overlap. <br>
+ * This relies on the cipher producing exactly one byte per input byte, which holds for the AES/CFB8
+ * cipher from {@link Crypt#getCipher}.
+ */
+final class CipherBase {
+    private static final int SCRATCH_SIZE = 8192;
+
+    private final Cipher cipher;
+    private byte[] heapIn;
+    private byte[] heapOut;
+
+    CipherBase(final @NonNull Cipher cipher) {
+        this.cipher = cipher;
+    }
+
+    /**
+     * Transforms the readable bytes of one buffer into another, consuming the input.
+     *
+     * @param in the buffer to read from
+     * @param out the buffer to append to
+     */
+    void transform(final @NonNull ByteBuf in, final @NonNull ByteBuf out)
+            throws ShortBufferException {
+        final int length = in.readableBytes();
+        out.ensureWritable(length);
+        final int writerIndex = out.writerIndex();
+        if (in.hasArray() && out.hasArray()) {
+            this.cipher.update(
+                    in.array(),
+                    in.arrayOffset() + in.readerIndex(),
+                    length,
+                    out.array(),
+                    out.arrayOffset() + writerIndex);
+        } else {
+            this.staged(in, in.readerIndex(), out, writerIndex, length);
+        }
+        in.skipBytes(length);
+        out.writerIndex(writerIndex + length);
+    }
+
+    /**
+     * Transforms the readable bytes of a buffer in place. The indices are not modified.
+     *
+     * @param buf the buffer, which must not be shared
+     */
+    void transform(final @NonNull ByteBuf buf) throws ShortBufferException {
+        this.staged(buf, buf.readerIndex(), buf, buf.readerIndex(), buf.readableBytes());
+    }
+
+    private void staged(
+            final @NonNull ByteBuf src,
+            final int srcIndex,
+            final @NonNull ByteBuf dst,
+            final int dstIndex,
+            final int length)
+            throws ShortBufferException {
+        if (this.heapOut == null) {
+            this.heapIn = new byte[SCRATCH_SIZE];
+            this.heapOut = new byte[SCRATCH_SIZE];
+        }
+        for (int i = 0; i < length; i += SCRATCH_SIZE) {
+            final int chunk = Math.min(SCRATCH_SIZE, length - i);
+            if (src.hasArray()) {
+                this.cipher.update(
+                        src.array(), src.arrayOffset() + srcIndex + i, chunk, this.heapOut, 0);
+            } else {
+                src.getBytes(srcIndex + i, this.heapIn, 0, chunk);
+                this.cipher.update(this.heapIn, 0, chunk, this.heapOut, 0);
+            }
+            dst.setBytes(dstIndex + i, this.heapOut, 0, chunk);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToMessageDecoder;
+
+import org.jspecify.annotations.NonNull;
+
+import java.util.List;
+
+import javax.crypto.Cipher;
+import javax.crypto.ShortBufferException;
+
+/**
+ * Decrypts inbound bytes with the connection's cipher. This stage sits first in the pipeline and
+ * owns the buffers read from the socket, so they are decrypted in place and passed on.
+ */
+public final class CipherDecoder extends MessageToMessageDecoder<ByteBuf> {
+    private final CipherBase cipher;
+
+    /**
+     * @param cipher the decrypting cipher, see {@link Crypt#getCipher}
+     */
+    public CipherDecoder(final @NonNull Cipher cipher) {
+        this.cipher = new CipherBase(cipher);
+    }
+
+    @Override
+    protected void decode(
+            final @NonNull ChannelHandlerContext ctx,
+            final @NonNull ByteBuf in,
+            final @NonNull List<Object> out)
+            throws ShortBufferException {
+        this.cipher.transform(in);
+        out.add(in.retain());
+    }
+}
@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToByteEncoder;
+
+import org.jspecify.annotations.NonNull;
+
+import javax.crypto.Cipher;
+import javax.crypto.ShortBufferException;
+
+/**
+ * Encrypts outbound bytes with the connection's cipher. Outbound buffers may be shared, such as the
+ * header {@link CompressionEncoder} reuses, so they are encrypted into a pooled buffer instead of
+ * in place.
+ */
+public final class CipherEncoder extends MessageToByteEncoder<ByteBuf> {
+    private final CipherBase cipher;
+
+    /**
+     * @param cipher the encrypting cipher, see {@link Crypt#getCipher}
+     */
+    public CipherEncoder(final @NonNull Cipher cipher) {
+        this.cipher = new CipherBase(cipher);
+    }
+
+    @Override
+    protected @NonNull ByteBuf allocateBuffer(
+            final @NonNull ChannelHandlerContext ctx,
+            final @NonNull ByteBuf msg,
+            final boolean preferDirect) {
+        final int length = msg.readableBytes();
+        return preferDirect
+                ? ctx.alloc().ioBuffer(length, length)
+                : ctx.alloc().heapBuffer(length, length);
+    }
+
+    @Override
+    protected void encode(
+            final @NonNull ChannelHandlerContext ctx,
+            final @NonNull ByteBuf msg,
+            final @NonNull ByteBuf out)
+            throws ShortBufferException {
+        this.cipher.transform(msg, out);
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.DecoderException;
+import io.netty.handler.codec.MessageToMessageDecoder;
+
+import org.jspecify.annotations.NonNull;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Reverses {@link CompressionEncoder}. Uncompressed frames are passed on as retained slices, and
+ * compressed ones are inflated straight into a buffer of the advertised size with the channel's
+ * {@link Inflater}.
+ */
+public final class CompressionDecoder extends MessageToMessageDecoder<ByteBuf> {
+    public static final int MAXIMUM_UNCOMPRESSED_LENGTH = 8388608; // 8 MiB
+
+    private final Inflater inflater = new Inflater();
+    private int threshold;
+    private final boolean validateDecompressed;
+
+    /**
+     * @param threshold the compression threshold
+     * @param validateDecompressed whether to reject compressed frames smaller than the threshold
+     */
+    public CompressionDecoder(final int threshold, final boolean validateDecompressed) {
+        this.threshold = threshold;
+        this.validateDecompressed = validateDecompressed;
+    }
+
+    public int threshold() {
+        return this.threshold;
+    }
+
+    public void threshold(final int threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected void decode(
+            final @NonNull ChannelHandlerContext ctx,
+            final @NonNull ByteBuf in,
+            final @NonNull List<Object> out) {
+        final int length = VarInt.read(in);
+        if (length == 0) {
+            out.add(FriendlyByteBuf.readRetainedSlice(in, in.readableBytes()));
+            return;
+        }
+        if (this.validateDecompressed && length < this.threshold) {
+            throw new DecoderException(
+                    "Badly compressed packet - size of "
+                            + length
+                            + " is below server threshold of "
+                            + this.threshold);
+        }
+        if (length > MAXIMUM_UNCOMPRESSED_LENGTH) {
+            throw new DecoderException(
+                    "Badly compressed packet - size of "
+                            + length
+                            + " is larger than protocol maximum of "
+                            + MAXIMUM_UNCOMPRESSED_LENGTH);
+        }
+
+        final ByteBuf buf = ctx.alloc().buffer(length, length);
+        try {
+            this.inflater.setInput(in.nioBuffer());
+            final ByteBuffer dst = buf.internalNioBuffer(0, length);
+            while (dst.hasRemaining() && !this.inflater.finished()) {
+                if (this.inflater.inflate(dst) == 0) {
+                    break; // Truncated, or wants a dictionary, neither of which vanilla sends
+                }
+            }
+            if (dst.hasRemaining() || !this.inflater.finished()) {
+                throw new DecoderException(
+                        "Badly compressed packet - actual length does not match " + length);
+            }
+            buf.writerIndex(length);
+            in.skipBytes(in.readableBytes());
+            out.add(buf);
+        } catch (final DataFormatException e) {
+            buf.release();
+            throw new DecoderException("Badly compressed packet", e);
+        } catch (final RuntimeException e) {
+            buf.release();
+            throw e;
+        } finally {
+            this.inflater.reset();
+        }
+    }
+
+    @Override
+    public void handlerRemoved(final @NonNull ChannelHandlerContext ctx) throws Exception {
+        this.inflater.end();
+        super.handlerRemoved(ctx);
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToMessageEncoder;
+
+import org.jspecify.annotations.NonNull;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * Applies the vanilla compression format to outbound frames: a VarInt uncompressed length, zero
+ * when the frame is smaller than the threshold and sent as is, followed by the zlib compressed
+ * frame otherwise. <br>
+ * One {@link Deflater} is kept per channel. It works on the buffers' NIO views, so direct buffers
+ * are compressed without being copied to the heap, and frames below the threshold are passed on as
+ * a composite of the header and the original buffer.
+ */
+public final class CompressionEncoder extends MessageToMessageEncoder<ByteBuf> {
+    private static final ByteBuf UNCOMPRESSED =
+            Unpooled.unreleasableBuffer(Unpooled.directBuffer(1, 1).writeByte(0));
+
+    private final Deflater deflater;
+    private int threshold;
+
+    /**
+     * @param threshold the smallest frame size that gets compressed
+     */
+    public CompressionEncoder(final int threshold) {
+        this(threshold, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * @param threshold the smallest frame size that gets compressed
+     * @param level the zlib compression level, 0-9
+     */
+    public CompressionEncoder(final int threshold, final int level) {
+        this.threshold = threshold;
+        this.deflater = new Deflater(level);
+    }
+
+    public int threshold() {
+        return this.threshold;
+    }
+
+    public void threshold(final int threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected void encode(
+            final @NonNull ChannelHandlerContext ctx,
+            final @NonNull ByteBuf msg,
+            final @NonNull List<Object> out) {
+        final int length = msg.readableBytes();
+        if (length < this.threshold) {
+            final CompositeByteBuf composite = ctx.alloc().compositeBuffer(2);
+            composite.addComponent(true, UNCOMPRESSED.duplicate());
+            composite.addComponent(true, msg.retain());
+            out.add(composite);
+            return;
+        }
+
+        final ByteBuf buf = ctx.alloc().buffer(VarInt.MAX_VARINT_SIZE + (length >>> 1) + 16);
+        try {
+            VarInt.write(buf, length);
+            this.deflater.setInput(msg.nioBuffer());
+            this.deflater.finish();
+            while (!this.deflater.finished()) {
+                buf.ensureWritable(Math.max(256, length >>> 3));
+                final int writerIndex = buf.writerIndex();
+                final ByteBuffer dst = buf.internalNioBuffer(writerIndex, buf.writableBytes());
+                buf.writerIndex(writerIndex + this.deflater.deflate(dst));
+            }
+            out.add(buf);
+        } catch (final RuntimeException e) {
+            buf.release();
+            throw e;
+        } finally {
+            this.deflater.reset();
+        }
+    }
+
+    @Override
+    public void handlerRemoved(final @NonNull ChannelHandlerContext ctx) throws Exception {
+        this.deflater.end();
+        super.handlerRemoved(ctx);
+    }
+}
@@ -6,12 +6,21 @@ package dev.neuralnexus.taterapi.network;
 
 import org.jspecify.annotations.NonNull;
 
+import java.security.Key;
 import java.security.KeyFactory;
+import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.spec.EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
 
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
 public final class Crypt {
+    public static final String SYMMETRIC_ALGORITHM = "AES";
+    public static final String SYMMETRIC_TRANSFORMATION = "AES/CFB8/NoPadding";
     public static final String ASYMMETRIC_ALGORITHM = "RSA";
     public static final int MAX_KEY_SIGNATURE_SIZE = 4096;
     public static final int MAX_PUBLIC_KEY_LENGTH = 512;
@@ -25,4 +34,41 @@ public final class Crypt {
             throw new CryptException(exception);
         }
     }
+
+    /**
+     * Decrypts the shared secret sent by the client during login.
+     *
+     * @param privateKey the server's private key
+     * @param bytes the RSA encrypted secret
+     * @return the shared secret
+     */
+    public static @NonNull SecretKey decryptByteToSecretKey(
+            final @NonNull PrivateKey privateKey, final byte[] bytes) throws CryptException {
+        try {
+            final Cipher cipher = Cipher.getInstance(ASYMMETRIC_ALGORITHM);
+            cipher.init(Cipher.DECRYPT_MODE, privateKey);
+            return new SecretKeySpec(cipher.doFinal(bytes), SYMMETRIC_ALGORITHM);
+        } catch (final Exception exception) {
+            throw new CryptException(exception);
+        }
+    }
+
+    /**
+     * Creates the stream cipher for one direction of an encrypted connection. The shared secret
+     * doubles as the IV, as in vanilla.
+     *
+     * @param opMode {@link Cipher#ENCRYPT_MODE} or {@link Cipher#DECRYPT_MODE}
+     * @param key the shared secret
+     * @return the initialised cipher
+     */
+    public static @NonNull Cipher getCipher(final int opMode, final @NonNull Key key)
+            throws CryptException {
+        try {
+            final Cipher cipher = Cipher.getInstance(SYMMETRIC_TRANSFORMATION);
+            cipher.init(opMode, key, new IvParameterSpec(key.getEncoded()));
+            return cipher;
+        } catch (final Exception exception) {
+            throw new CryptException(exception);
+        }
+    }
 }
@@ -11,10 +11,12 @@ import com.google.common.net.InetAddresses;
 import dev.neuralnexus.taterapi.network.codec.StreamDecoder;
 import dev.neuralnexus.taterapi.network.codec.StreamEncoder;
 import dev.neuralnexus.taterapi.network.protocol.PacketFlow;
+import dev.neuralnexus.taterapi.resources.Identifier;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
-import io.netty.buffer.Unpooled;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.handler.codec.DecoderException;
 import io.netty.handler.codec.EncoderException;
 import io.netty.util.ByteProcessor;
@@ -37,6 +39,7 @@ import java.nio.channels.ScatteringByteChannel;
 import java.nio.charset.Charset;
 import java.security.PublicKey;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -47,18 +50,144 @@ import java.util.UUID;
  * for compatibility's sake when dealing with multi-version code.
  */
 @SuppressWarnings("UnusedReturnValue")
-public final class FriendlyByteBuf extends ByteBuf {
+public final class FriendlyByteBuf extends ByteBuf implements AutoCloseable {
     public static final int MAX_STRING_LENGTH = 65535; // 16 bits
     public static final int MAX_PAYLOAD_SIZE = 32767; // Default to serverbound limit of 32 KiB
 
+    private static volatile @NonNull Allocation allocation =
+            new Allocation(UnpooledByteBufAllocator.DEFAULT, false);
+    private static volatile @NonNull PayloadMode payloadMode = PayloadMode.COPY;
+
     private final @NonNull ByteBuf source;
 
     public FriendlyByteBuf(final @NonNull ByteBuf buf) {
         this.source = buf;
     }
 
+    /**
+     * Creates a buffer from the configured {@link #allocator(ByteBufAllocator, boolean)}, unpooled
+     * heap by default. The caller owns the buffer and should {@link #close()} it, ideally with
+     * try-with-resources.
+     */
     public FriendlyByteBuf() {
-        this.source = Unpooled.buffer();
+        this.source = allocation.buffer();
+    }
+
+    /**
+     * Same as {@link #FriendlyByteBuf()}, sized up front so that writing a known amount of data
+     * does not grow (and copy) the buffer along the way.
+     *
+     * @param initialCapacity the initial capacity
+     */
+    public FriendlyByteBuf(final int initialCapacity) {
+        this.source = allocation.buffer(initialCapacity);
+    }
+
+    /**
+     * Sets the allocator used by {@link #FriendlyByteBuf()}.
+     *
+     * @param allocator the allocator
+     * @param direct whether to allocate direct rather than heap buffers
+     */
+    public static void allocator(final @NonNull ByteBufAllocator allocator, final boolean direct) {
+        allocation = new Allocation(allocator, direct);
+    }
+
+    /** Allocates from Netty's shared pooled direct allocator from now on. */
+    public static void usePooledAllocator() {
+        allocator(PooledByteBufAllocator.DEFAULT, true);
+    }
+
+    /**
+     * Enables or disables recording the allocation site of every buffer created by {@link
+     * #FriendlyByteBuf()}, for use with {@link #leakReport()}. Disabling it forgets all records.
+     *
+     * @param enabled whether to track allocations
+     */
+    public static void trackLeaks(final boolean enabled) {
+        BufferLeakTracker.enabled(enabled);
+    }
+
+    /**
+     * Reports the tracked buffers that have not been released yet.
+     *
+     * @return the allocation stack trace of each unreleased buffer
+     */
+    public static @NonNull List<String> leakReport() {
+        return BufferLeakTracker.report();
+    }
+
+    /**
+     * Sets how {@link #readPayload(int)} extracts payloads. Anything other than {@link
+     * PayloadMode#COPY} requires decoded payloads to be released, or the buffer they were read from
+     * stays referenced.
+     *
+     * @param mode the payload mode
+     */
+    public static void payloadMode(final @NonNull PayloadMode mode) {
+        payloadMode = mode;
+    }
+
+    /** How a payload is extracted from the buffer it was read from. */
+    public enum PayloadMode {
+        /** Copy into a new buffer, independent of the source. The default. */
+        COPY {
+            @Override
+            boolean slice(final int length) {
+                return false;
+            }
+        },
+        /**
+         * Share the source's memory through a retained slice. Releasing the payload releases the
+         * extra reference on the source.
+         */
+        RETAINED_SLICE {
+            @Override
+            boolean slice(final int length) {
+                return true;
+            }
+        },
+        /**
+         * Slice payloads of at least {@link #SLICE_THRESHOLD} bytes and copy smaller ones. Copying
+         * a small payload is cheap, and avoids pinning a large pooled source buffer for it.
+         */
+        ADAPTIVE {
+            @Override
+            boolean slice(final int length) {
+                return length >= SLICE_THRESHOLD;
+            }
+        };
+
+        public static final int SLICE_THRESHOLD = 1024;
+
+        abstract boolean slice(final int length);
+    }
+
+    private record Allocation(@NonNull ByteBufAllocator allocator, boolean direct) {
+        @NonNull ByteBuf buffer() {
+            return this.track(
+                    this.direct ? this.allocator.directBuffer() : this.allocator.heapBuffer());
+        }
+
+        @NonNull ByteBuf buffer(final int initialCapacity) {
+            return this.track(
+                    this.direct
+                            ? this.allocator.directBuffer(initialCapacity)
+                            : this.allocator.heapBuffer(initialCapacity));
+        }
+
+        private @NonNull ByteBuf track(final @NonNull ByteBuf buf) {
+            if (BufferLeakTracker.enabled()) {
+                BufferLeakTracker.track(buf);
+            }
+            return buf;
+        }
+    }
+
+    /** Releases this buffer, ending a try-with-resources scope. */
+    @Override
+    public void close() {
+        this.source.release();
     }
 
     @NullUnmarked // TODO: Further look into the nullability
@@ -78,6 +207,17 @@ public final class FriendlyByteBuf extends ByteBuf {
         };
     }
 
+    /**
+     * Reads a retained slice, like {@link ByteBuf#readRetainedSlice(int)}, which needs Netty 4.1.
+     *
+     * @param buf the buffer to read from
+     * @param length the length of the slice
+     * @return the slice, which must be released
+     */
+    static @NonNull ByteBuf readRetainedSlice(final @NonNull ByteBuf buf, final int length) {
+        return buf.readSlice(length).retain();
+    }
+
     // ---------------- Addon methods -----------------
     public @NonNull InetAddress readInetAddress() {
         return InetAddresses.forString(this.readUtf());
@@ -94,9 +234,24 @@ public final class FriendlyByteBuf extends ByteBuf {
         return new InetSocketAddress(InetAddresses.forString(ip), port);
     }
 
+    /**
+     * Reads the remaining bytes as a payload, using the configured {@link
+     * #payloadMode(PayloadMode)}. The result should be released once it is no longer needed.
+     *
+     * @param maxSize the maximum payload size
+     * @return the payload
+     */
     public @NonNull FriendlyByteBuf readPayload(final int maxSize) {
+        return this.readPayload(maxSize, payloadMode);
+    }
+
+    public @NonNull FriendlyByteBuf readPayload(
+            final int maxSize, final @NonNull PayloadMode mode) {
         int i = this.readableBytes();
         if (i >= 0 && i <= maxSize) {
+            if (mode.slice(i)) {
+                return wrap(readRetainedSlice(this.source, i));
+            }
             return this.readBytes(i);
         } else {
             throw new DecoderException("Payload may not be larger than " + maxSize + " bytes");
@@ -176,12 +331,28 @@ public final class FriendlyByteBuf extends ByteBuf {
         return Utf8String.read(this.source, maxLength);
     }
 
+    /**
+     * Reads a string through a bounded intern table, for short values that repeat constantly such
+     * as channel ids and subchannel names. Repeated reads return the same instance.
+     *
+     * @return the string
+     */
+    public @NonNull String readUtfInterned() {
+        return this.readUtfInterned(MAX_STRING_LENGTH);
+    }
+
+    public @NonNull String readUtfInterned(final int maxLength) {
+        return Utf8String.readInterned(this.source, maxLength);
+    }
+
     public @NonNull FriendlyByteBuf writeUtf(final @NonNull String string, int maxLength) {
-        return wrap(Utf8String.write(this.source, string, maxLength));
+        Utf8String.write(this.source, string, maxLength);
+        return this;
     }
 
     public @NonNull FriendlyByteBuf writeUtf(final @NonNull String string) {
-        return wrap(Utf8String.write(this.source, string, MAX_STRING_LENGTH));
+        Utf8String.write(this.source, string, MAX_STRING_LENGTH);
+        return this;
     }
 
     public int readVarInt() {
@@ -189,7 +360,8 @@ public final class FriendlyByteBuf extends ByteBuf {
     }
 
     public @NonNull FriendlyByteBuf writeVarInt(final int varInt) {
-        return wrap(VarInt.write(this.source, varInt));
+        VarInt.write(this.source, varInt);
+        return this;
     }
 
     public @NonNull UUID readUUID() {
@@ -228,15 +400,15 @@ public final class FriendlyByteBuf extends ByteBuf {
     }
 
     public @NonNull FriendlyByteBuf writeByteArray(final byte[] bytes) {
-        return wrap(this.writeByteArray(bytes, MAX_PAYLOAD_SIZE));
+        return this.writeByteArray(bytes, MAX_PAYLOAD_SIZE);
     }
 
     public <T> @NonNull T readIdentifier() {
-        return identifier(this.readUtf());
+        return identifier(this.readUtfInterned());
     }
 
     public @NonNull FriendlyByteBuf writeIdentifier(final @NonNull Object identifier) {
-        return this.writeUtf(identifier.toString());
+        return this.writeUtf(Identifier.asString(identifier));
     }
 
     public <T> Optional<T> readOptional(
@@ -306,7 +478,8 @@ public final class FriendlyByteBuf extends ByteBuf {
 
     @Override
     public @NonNull FriendlyByteBuf capacity(final int newCapacity) {
-        return wrap(this.source.capacity(newCapacity));
+        this.source.capacity(newCapacity);
+        return this;
     }
 
     @Override
@@ -328,7 +501,8 @@ public final class FriendlyByteBuf extends ByteBuf {
     @Deprecated
     @Override
     public @NonNull FriendlyByteBuf order(final @NonNull ByteOrder endianness) {
-        return wrap(this.source.order(endianness));
+        final ByteBuf ordered = this.source.order(endianness);
+        return ordered == this.source ? this : wrap(ordered);
     }
 
     @Override
@@ -359,7 +533,8 @@ public final class FriendlyByteBuf extends ByteBuf {
 
     @Override
     public @NonNull FriendlyByteBuf readerIndex(final int readerIndex) {
-        return wrap(this.source.readerIndex(readerIndex));
+        this.source.readerIndex(readerIndex);
+        return this;
     }
 
     @Override
@@ -369,12 +544,14 @@ public final class FriendlyByteBuf extends ByteBuf {
 
     @Override
     public @NonNull FriendlyByteBuf writerIndex(final int writerIndex) {
-        return wrap(this.source.writerIndex(writerIndex));
+        this.source.writerIndex(writerIndex);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf setIndex(final int readerIndex, final int writerIndex) {
-        return wrap(this.source.setIndex(readerIndex, writerIndex));
+        this.source.setIndex(readerIndex, writerIndex);
+        return this;
     }
 
     @Override
@@ -414,42 +591,50 @@ public final class FriendlyByteBuf extends ByteBuf {
 
     @Override
     public @NonNull FriendlyByteBuf clear() {
-        return wrap(this.source.clear());
+        this.source.clear();
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf markReaderIndex() {
-        return wrap(this.source.markReaderIndex());
+        this.source.markReaderIndex();
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf resetReaderIndex() {
-        return wrap(this.source.resetReaderIndex());
+        this.source.resetReaderIndex();
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf markWriterIndex() {
-        return wrap(this.source.markWriterIndex());
+        this.source.markWriterIndex();
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf resetWriterIndex() {
-        return wrap(this.source.resetWriterIndex());
+        this.source.resetWriterIndex();
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf discardReadBytes() {
-        return wrap(this.source.discardReadBytes());
+        this.source.discardReadBytes();
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf discardSomeReadBytes() {
-        return wrap(this.source.discardSomeReadBytes());
+        this.source.discardSomeReadBytes();
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf ensureWritable(final int minWritableBytes) {
-        return wrap(this.source.ensureWritable(minWritableBytes));
+        this.source.ensureWritable(minWritableBytes);
+        return this;
     }
 
     @Override
@@ -559,41 +744,48 @@ public final class FriendlyByteBuf extends ByteBuf {
 
     @Override
     public @NonNull FriendlyByteBuf getBytes(final int index, final @NonNull ByteBuf dst) {
-        return wrap(this.source.getBytes(index, dst));
+        this.source.getBytes(index, dst);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf getBytes(
             final int index, final @NonNull ByteBuf dst, final int length) {
-        return wrap(this.source.getBytes(index, dst, length));
+        this.source.getBytes(index, dst, length);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf getBytes(
             final int index, final @NonNull ByteBuf dst, final int dstIndex, final int length) {
-        return wrap(this.source.getBytes(index, dst, dstIndex, length));
+        this.source.getBytes(index, dst, dstIndex, length);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf getBytes(final int index, final byte[] dst) {
-        return wrap(this.source.getBytes(index, dst));
+        this.source.getBytes(index, dst);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf getBytes(
             final int index, final byte[] dst, final int dstIndex, final int length) {
-        return wrap(this.source.getBytes(index, dst, dstIndex, length));
+        this.source.getBytes(index, dst, dstIndex, length);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf getBytes(final int index, final @NonNull ByteBuffer dst) {
-        return wrap(this.source.getBytes(index, dst));
+        this.source.getBytes(index, dst);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf getBytes(
             final int index, final @NonNull OutputStream out, final int length) throws IOException {
-        return wrap(this.source.getBytes(index, out, length));
+        this.source.getBytes(index, out, length);
+        return this;
     }
 
     @Override
@@ -617,100 +809,119 @@ public final class FriendlyByteBuf extends ByteBuf {
 
     @Override
     public @NonNull FriendlyByteBuf setBoolean(final int index, final boolean value) {
-        return wrap(this.source.setBoolean(index, value));
+        this.source.setBoolean(index, value);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf setByte(final int index, final int value) {
-        return wrap(this.source.setByte(index, value));
+        this.source.setByte(index, value);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf setShort(final int index, final int value) {
-        return wrap(this.source.setShort(index, value));
+        this.source.setShort(index, value);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf setShortLE(final int index, final int value) {
-        return wrap(this.source.setShortLE(index, value));
+        this.source.setShortLE(index, value);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf setMedium(final int index, final int value) {
-        return wrap(this.source.setMedium(index, value));
+        this.source.setMedium(index, value);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf setMediumLE(final int index, final int value) {
-        return wrap(this.source.setMediumLE(index, value));
+        this.source.setMediumLE(index, value);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf setInt(final int index, final int value) {
-        return wrap(this.source.setInt(index, value));
+        this.source.setInt(index, value);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf setIntLE(final int index, final int value) {
-        return wrap(this.source.setIntLE(index, value));
+        this.source.setIntLE(index, value);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf setLong(final int index, final long value) {
-        return wrap(this.source.setLong(index, value));
+        this.source.setLong(index, value);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf setLongLE(final int index, final long value) {
-        return wrap(this.source.setLongLE(index, value));
+        this.source.setLongLE(index, value);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf setChar(final int index, final int value) {
-        return wrap(this.source.setChar(index, value));
+        this.source.setChar(index, value);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf setFloat(final int index, final float value) {
-        return wrap(this.source.setFloat(index, value));
+        this.source.setFloat(index, value);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf setDouble(final int index, final double value) {
-        return wrap(this.source.setDouble(index, value));
+        this.source.setDouble(index, value);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf setBytes(final int index, final @NonNull ByteBuf src) {
-        return wrap(this.source.setBytes(index, src));
+        this.source.setBytes(index, src);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf setBytes(
             final int index, final @NonNull ByteBuf src, final int length) {
-        return wrap(this.source.setBytes(index, src, length));
+        this.source.setBytes(index, src, length);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf setBytes(
             final int index, final @NonNull ByteBuf src, final int srcIndex, final int length) {
-        return wrap(this.source.setBytes(index, src, srcIndex, length));
+        this.source.setBytes(index, src, srcIndex, length);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf setBytes(final int index, final byte[] src) {
-        return wrap(this.source.setBytes(index, src));
+        this.source.setBytes(index, src);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf setBytes(
             final int index, final byte[] src, final int srcIndex, final int length) {
-        return wrap(this.source.setBytes(index, src, srcIndex, length));
+        this.source.setBytes(index, src, srcIndex, length);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf setBytes(final int index, final @NonNull ByteBuffer src) {
-        return wrap(this.source.setBytes(index, src));
+        this.source.setBytes(index, src);
+        return this;
     }
 
     @Override
@@ -734,7 +945,8 @@ public final class FriendlyByteBuf extends ByteBuf {
 
     @Override
     public @NonNull FriendlyByteBuf setZero(final int index, final int length) {
-        return wrap(this.source.setZero(index, length));
+        this.source.setZero(index, length);
+        return this;
     }
 
     @Override
@@ -860,40 +1072,47 @@ public final class FriendlyByteBuf extends ByteBuf {
 
     @Override
     public @NonNull FriendlyByteBuf readBytes(final @NonNull ByteBuf dst) {
-        return wrap(this.source.readBytes(dst));
+        this.source.readBytes(dst);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf readBytes(final @NonNull ByteBuf dst, final int length) {
-        return wrap(this.source.readBytes(dst, length));
+        this.source.readBytes(dst, length);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf readBytes(
             final @NonNull ByteBuf dst, final int dstIndex, final int length) {
-        return wrap(this.source.readBytes(dst, dstIndex, length));
+        this.source.readBytes(dst, dstIndex, length);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf readBytes(final byte[] dst) {
-        return wrap(this.source.readBytes(dst));
+        this.source.readBytes(dst);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf readBytes(
             final byte[] dst, final int dstIndex, final int length) {
-        return wrap(this.source.readBytes(dst, dstIndex, length));
+        this.source.readBytes(dst, dstIndex, length);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf readBytes(final @NonNull ByteBuffer dst) {
-        return wrap(this.source.readBytes(dst));
+        this.source.readBytes(dst);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf readBytes(final @NonNull OutputStream out, final int length)
             throws IOException {
-        return wrap(this.source.readBytes(out, length));
+        this.source.readBytes(out, length);
+        return this;
     }
 
     @Override
@@ -916,104 +1135,124 @@ public final class FriendlyByteBuf extends ByteBuf {
 
     @Override
     public @NonNull FriendlyByteBuf skipBytes(final int length) {
-        return wrap(this.source.skipBytes(length));
+        this.source.skipBytes(length);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf writeBoolean(final boolean value) {
-        return wrap(this.source.writeBoolean(value));
+        this.source.writeBoolean(value);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf writeByte(final int value) {
-        return wrap(this.source.writeByte(value));
+        this.source.writeByte(value);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf writeShort(final int value) {
-        return wrap(this.source.writeShort(value));
+        this.source.writeShort(value);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf writeShortLE(final int value) {
-        return wrap(this.source.writeShortLE(value));
+        this.source.writeShortLE(value);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf writeMedium(final int value) {
-        return wrap(this.source.writeMedium(value));
+        this.source.writeMedium(value);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf writeMediumLE(final int value) {
-        return wrap(this.source.writeMediumLE(value));
+        this.source.writeMediumLE(value);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf writeInt(final int value) {
-        return wrap(this.source.writeInt(value));
+        this.source.writeInt(value);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf writeIntLE(final int value) {
-        return wrap(this.source.writeIntLE(value));
+        this.source.writeIntLE(value);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf writeLong(final long value) {
-        return wrap(this.source.writeLong(value));
+        this.source.writeLong(value);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf writeLongLE(final long value) {
-        return wrap(this.source.writeLongLE(value));
+        this.source.writeLongLE(value);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf writeChar(final int value) {
-        return wrap(this.source.writeChar(value));
+        this.source.writeChar(value);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf writeFloat(final float value) {
-        return wrap(this.source.writeFloat(value));
+        this.source.writeFloat(value);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf writeDouble(final double value) {
-        return wrap(this.source.writeDouble(value));
+        this.source.writeDouble(value);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf writeBytes(final @NonNull ByteBuf src) {
-        return wrap(this.source.writeBytes(src));
+        this.source.writeBytes(src);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf writeBytes(final @NonNull ByteBuf src, final int length) {
-        return wrap(this.source.writeBytes(src, length));
+        this.source.writeBytes(src, length);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf writeBytes(
             final @NonNull ByteBuf src, final int srcIndex, final int length) {
-        return wrap(this.source.writeBytes(src, srcIndex, length));
+        this.source.writeBytes(src, srcIndex, length);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf writeBytes(final byte[] src) {
-        return wrap(this.source.writeBytes(src));
+        this.source.writeBytes(src);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf writeBytes(
             final byte[] src, final int srcIndex, final int length) {
-        return wrap(this.source.writeBytes(src, srcIndex, length));
+        this.source.writeBytes(src, srcIndex, length);
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf writeBytes(final @NonNull ByteBuffer src) {
-        return wrap(this.source.writeBytes(src));
+        this.source.writeBytes(src);
+        return this;
     }
 
     @Override
@@ -1035,7 +1274,8 @@ public final class FriendlyByteBuf extends ByteBuf {
 
     @Override
     public @NonNull FriendlyByteBuf writeZero(final int length) {
-        return wrap(this.source.writeZero(length));
+        this.source.writeZero(length);
+        return this;
     }
 
     @Override
@@ -1217,7 +1457,8 @@ public final class FriendlyByteBuf extends ByteBuf {
 
     @Override
     public @NonNull FriendlyByteBuf retain(final int increment) {
-        return wrap(this.source.retain(increment));
+        this.source.retain(increment);
+        return this;
     }
 
     @Override
@@ -1227,17 +1468,20 @@ public final class FriendlyByteBuf extends ByteBuf {
 
     @Override
     public @NonNull FriendlyByteBuf retain() {
-        return wrap(this.source.retain());
+        this.source.retain();
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf touch() {
-        return wrap(this.source.touch());
+        this.source.touch();
+        return this;
     }
 
     @Override
     public @NonNull FriendlyByteBuf touch(final @NonNull Object hint) {
-        return wrap(this.source.touch(hint));
+        this.source.touch(hint);
+        return this;
     }
 
     @Override
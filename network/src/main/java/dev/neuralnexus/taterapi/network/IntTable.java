@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Map;
+
+/**
+ * Immutable open-addressing table keyed by primitive ints, so that lookups neither box the key nor
+ * allocate. Stands in for IntObjectHashMap, which older Netty versions don't ship.
+ *
+ * @param <V> the value type
+ */
+final class IntTable<V> {
+    private static final IntTable<?> EMPTY = new IntTable<>(new int[1], new Object[1]);
+
+    private final int @NonNull [] keys;
+    private final @Nullable Object @NonNull [] values;
+    private final int mask;
+
+    private IntTable(final int @NonNull [] keys, final @Nullable Object @NonNull [] values) {
+        this.keys = keys;
+        this.values = values;
+        this.mask = keys.length - 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <V> @NonNull IntTable<V> of(final @NonNull Map<Integer, V> map) {
+        if (map.isEmpty()) {
+            return (IntTable<V>) EMPTY;
+        }
+        // At most half full, so probe chains stay short
+        final int capacity = Integer.highestOneBit(map.size() * 4 - 1);
+        final int[] keys = new int[capacity];
+        final Object[] values = new Object[capacity];
+        for (final Map.Entry<Integer, V> entry : map.entrySet()) {
+            final int key = entry.getKey();
+            int slot = mix(key) & (capacity - 1);
+            while (values[slot] != null) {
+                slot = slot + 1 & capacity - 1;
+            }
+            keys[slot] = key;
+            values[slot] = entry.getValue();
+        }
+        return new IntTable<>(keys, values);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable V get(final int key) {
+        int slot = mix(key) & this.mask;
+        Object value;
+        while ((value = this.values[slot]) != null) {
+            if (this.keys[slot] == key) {
+                return (V) value;
+            }
+            slot = slot + 1 & this.mask;
+        }
+        return null;
+    }
+
+    private static int mix(final int key) {
+        final int h = key * 0x9E3779B9;
+        return h ^ h >>> 16;
+    }
+}
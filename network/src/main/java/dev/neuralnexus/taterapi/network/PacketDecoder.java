@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network;
+
+import dev.neuralnexus.taterapi.network.capture.PacketCapture;
+import dev.neuralnexus.taterapi.network.metrics.NetworkMetrics;
+import dev.neuralnexus.taterapi.network.protocol.Packet;
+import dev.neuralnexus.taterapi.network.protocol.PacketFlow;
+import dev.neuralnexus.taterapi.network.protocol.PacketType;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.DecoderException;
+import io.netty.handler.codec.MessageToMessageDecoder;
+
+import org.jspecify.annotations.NonNull;
+
+import java.util.List;
+
+/**
+ * Decodes frames from {@link Varint21FrameDecoder} into packets, looking the packet id up in the
+ * {@link PacketRegistry} of the current {@link Protocol}.
+ */
+public final class PacketDecoder extends MessageToMessageDecoder<ByteBuf> {
+    private final @NonNull PacketFlow flow;
+    private @NonNull Protocol protocol;
+
+    /**
+     * @param flow the direction of the packets being decoded
+     * @param protocol the initial protocol
+     */
+    public PacketDecoder(final @NonNull PacketFlow flow, final @NonNull Protocol protocol) {
+        this.flow = flow;
+        this.protocol = protocol;
+    }
+
+    public @NonNull Protocol protocol() {
+        return this.protocol;
+    }
+
+    /**
+     * Switches protocol, ie: after a handshake. Must be called on the channel's event loop.
+     *
+     * @param protocol the new protocol
+     */
+    public void protocol(final @NonNull Protocol protocol) {
+        this.protocol = protocol;
+    }
+
+    @Override
+    protected void decode(
+            final @NonNull ChannelHandlerContext ctx,
+            final @NonNull ByteBuf in,
+            final @NonNull List<Object> out) {
+        final PacketCapture capture = PacketCapture.active();
+        if (capture != null) {
+            capture.record(
+                    this.flow,
+                    this.protocol,
+                    System.identityHashCode(ctx.channel()),
+                    in,
+                    in.readerIndex(),
+                    in.readableBytes());
+        }
+        final boolean measure = NetworkMetrics.enabled();
+        final long start = measure ? System.nanoTime() : 0L;
+        final int size = measure ? in.readableBytes() : 0;
+        final FriendlyByteBuf buf = FriendlyByteBuf.wrap(in);
+        final int id = buf.readVarInt();
+        final PacketType<Packet> type = this.protocol.info(this.flow, id);
+        if (type == null) {
+            throw new DecoderException(
+                    "Bad packet id " + id + " for " + this.flow.id() + " " + this.protocol.id());
+        }
+        final Packet packet = type.codec().decode(buf);
+        if (buf.isReadable()) {
+            throw new DecoderException(
+                    "Packet "
+                            + type
+                            + " was larger than expected, found "
+                            + buf.readableBytes()
+                            + " bytes extra");
+        }
+        if (measure) {
+            NetworkMetrics.packet(type).decoded(size, System.nanoTime() - start);
+        }
+        out.add(packet);
+    }
+}
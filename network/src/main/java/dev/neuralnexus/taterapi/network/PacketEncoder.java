@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network;
+
+import dev.neuralnexus.taterapi.network.capture.PacketCapture;
+import dev.neuralnexus.taterapi.network.metrics.NetworkMetrics;
+import dev.neuralnexus.taterapi.network.protocol.Packet;
+import dev.neuralnexus.taterapi.network.protocol.PacketFlow;
+import dev.neuralnexus.taterapi.network.protocol.PacketType;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToByteEncoder;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Encodes packets as their VarInt id followed by their body, ready for {@link
+ * Varint21LengthFieldPrepender}.
+ */
+public final class PacketEncoder extends MessageToByteEncoder<Packet> {
+    private final @NonNull PacketFlow flow;
+    private @NonNull Protocol protocol;
+
+    /**
+     * @param flow the direction of the packets being encoded
+     * @param protocol the initial protocol
+     */
+    public PacketEncoder(final @NonNull PacketFlow flow, final @NonNull Protocol protocol) {
+        super(Packet.class);
+        this.flow = flow;
+        this.protocol = protocol;
+    }
+
+    public @NonNull Protocol protocol() {
+        return this.protocol;
+    }
+
+    /**
+     * Switches protocol, ie: after a handshake. Must be called on the channel's event loop.
+     *
+     * @param protocol the new protocol
+     */
+    public void protocol(final @NonNull Protocol protocol) {
+        this.protocol = protocol;
+    }
+
+    @Override
+    protected void encode(
+            final @NonNull ChannelHandlerContext ctx,
+            final @NonNull Packet packet,
+            final @NonNull ByteBuf out) {
+        final FriendlyByteBuf buf = FriendlyByteBuf.wrap(out);
+        final boolean measure = NetworkMetrics.enabled();
+        final PacketCapture capture = PacketCapture.active();
+        if (!measure && capture == null) {
+            buf.writeVarInt(this.protocol.id(this.flow, packet.getClass()));
+            packet.type().codec().encode(buf, packet);
+            return;
+        }
+        final int start = buf.writerIndex();
+        final long time = measure ? System.nanoTime() : 0L;
+        final PacketType<? extends Packet> type = packet.type();
+        buf.writeVarInt(this.protocol.id(this.flow, packet.getClass()));
+        type.codec().encode(buf, packet);
+        if (measure) {
+            NetworkMetrics.packet(type)
+                    .encoded(buf.writerIndex() - start, System.nanoTime() - time);
+        }
+        if (capture != null) {
+            capture.record(
+                    this.flow,
+                    this.protocol,
+                    System.identityHashCode(ctx.channel()),
+                    buf,
+                    start,
+                    buf.writerIndex() - start);
+        }
+    }
+}
@@ -4,7 +4,6 @@
  */
 package dev.neuralnexus.taterapi.network;
 
-import dev.neuralnexus.taterapi.meta.Constraint;
 import dev.neuralnexus.taterapi.meta.MinecraftVersion;
 import dev.neuralnexus.taterapi.meta.MinecraftVersions;
 import dev.neuralnexus.taterapi.network.codec.StreamCodec;
@@ -14,18 +13,29 @@ import dev.neuralnexus.taterapi.network.protocol.PacketType;
 
 import org.jspecify.annotations.NonNull;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Stream;
 
 public final class PacketRegistry {
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final PacketType<Packet>[] EMPTY = new PacketType[0];
+
     public final @NonNull PacketFlow direction;
     public final @NonNull Protocol protocol;
-    // TODO: Find a way to replace with IntObjectHashMap and similar,
-    //  as the Netty version 1.7 (and probably 1.12) uses doesn't have such classes
-    final Map<Integer, PacketType<Packet>> idToProtocolInfo = new HashMap<>(16, 0.5f);
-    final Map<Class<Packet>, Integer> classToId = new HashMap<>(16, 0.5f);
+    // Dense id -> type table and a ClassValue for the reverse lookup, so the hot paths don't box.
+    // Both are fixed once frozen, since ClassValue caches the first value it computes per class.
+    private PacketType<Packet> @NonNull [] idToProtocolInfo = EMPTY;
+    private final Map<Class<?>, Integer> registeredIds = new HashMap<>(16, 0.5f);
+    private final ClassValue<Integer> classToId =
+            new ClassValue<>() {
+                @Override
+                protected Integer computeValue(final @NonNull Class<?> type) {
+                    return PacketRegistry.this.registeredIds.get(type);
+                }
+            };
+    private boolean frozen;
 
     public PacketRegistry(final @NonNull PacketFlow direction, final @NonNull Protocol protocol) {
         this.direction = direction;
@@ -35,32 +45,62 @@ public final class PacketRegistry {
     @SuppressWarnings("unchecked")
     public <T extends Packet> void register(
             @NonNull PacketType<T> protocolInfo, @NonNull Mapping... mappings) {
+        if (this.frozen) {
+            throw new IllegalStateException(
+                    "Cannot register "
+                            + protocolInfo.clazz().getName()
+                            + ", the "
+                            + this.direction
+                            + " "
+                            + this.protocol.id()
+                            + " registry is frozen");
+        }
         if (mappings.length == 0) {
             throw new IllegalArgumentException("At least one mapping must be provided");
         }
-        final int id =
-                Stream.of(mappings)
-                        .map(Mapping::resolve)
-                        .flatMap(Optional::stream)
-                        .findFirst()
-                        .orElse(-1);
+        int id = -1;
+        for (final Mapping mapping : mappings) {
+            if (mapping.matches()) {
+                id = mapping.id;
+                break;
+            }
+        }
         if (id == -1) {
             return;
         }
-        this.idToProtocolInfo.put(id, (PacketType<Packet>) protocolInfo);
-        this.classToId.put((Class<Packet>) protocolInfo.clazz(), id);
+        if (id >= this.idToProtocolInfo.length) {
+            this.idToProtocolInfo = Arrays.copyOf(this.idToProtocolInfo, id + 1);
+        }
+        this.idToProtocolInfo[id] = (PacketType<Packet>) protocolInfo;
+        this.registeredIds.put(protocolInfo.clazz(), id);
+    }
+
+    /** Stops further registration, once the mappings for the running version have been resolved. */
+    void freeze() {
+        this.frozen = true;
     }
 
     public PacketType<Packet> info(final int id) {
-        return this.idToProtocolInfo.get(id);
+        final PacketType<Packet>[] table = this.idToProtocolInfo;
+        return id >= 0 && id < table.length ? table[id] : null;
     }
 
     public int id(final @NonNull Class<? extends Packet> clazz) {
-        return this.classToId.get(clazz);
+        final Integer id = this.classToId.get(clazz);
+        if (id == null) {
+            throw new IllegalArgumentException(
+                    "Packet "
+                            + clazz.getName()
+                            + " is not registered for "
+                            + this.direction
+                            + " "
+                            + this.protocol.id());
+        }
+        return id;
     }
 
     public Optional<StreamCodec<FriendlyByteBuf, Packet>> codec(final int id) {
-        PacketType<Packet> protocolInfo = this.idToProtocolInfo.get(id);
+        PacketType<Packet> protocolInfo = this.info(id);
         if (protocolInfo == null) {
             return Optional.empty();
         }
@@ -78,10 +118,16 @@ public final class PacketRegistry {
         }
 
         public Optional<Integer> resolve() {
-            if (Constraint.range(this.since, this.until).result()) {
-                return Optional.of(this.id);
-            }
-            return Optional.empty();
+            return this.matches() ? Optional.of(this.id) : Optional.empty();
+        }
+
+        /**
+         * Checks whether this mapping applies to the running version.
+         *
+         * @return true if the running version is within the mapping's range
+         */
+        public boolean matches() {
+            return RunningVersion.isInRange(this.since, this.until);
         }
     }
 }
@@ -4,10 +4,11 @@
  */
 package dev.neuralnexus.taterapi.network;
 
-import dev.neuralnexus.taterapi.meta.Constraint;
 import dev.neuralnexus.taterapi.meta.MinecraftVersion;
 import dev.neuralnexus.taterapi.meta.MinecraftVersions;
+import dev.neuralnexus.taterapi.network.codec.StreamCodec;
 import dev.neuralnexus.taterapi.network.protocol.common.custom.CustomPacketPayload;
+import dev.neuralnexus.taterapi.network.protocol.login.CustomQueryTransactions;
 import dev.neuralnexus.taterapi.network.protocol.login.custom.CustomQueryAnswerPayload;
 import dev.neuralnexus.taterapi.network.protocol.login.custom.CustomQueryPayload;
 
@@ -18,95 +19,248 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
+/**
+ * Maps payload ids to their types. Reads go through an immutable snapshot published via a volatile
+ * field, so Netty threads never lock or allocate. Writers copy the current snapshot, apply their
+ * changes and publish the result under a lock; use {@link #batch(Consumer)} to publish several
+ * changes at once. <br>
+ * Answers registered for a single transaction id come and go with every login query, so they are
+ * kept in a concurrent table beside the snapshot instead, and don't copy it or change its {@link
+ * #version()}.
+ */
 public final class PayloadRegistry {
-    private static final Map<String, CustomPacketPayload.Type<? extends CustomPacketPayload>>
-            CUSTOM = new HashMap<>();
-    private static final Map<String, CustomQueryPayload.Type<? extends CustomQueryPayload>> QUERY =
-            new HashMap<>();
+    private static final Object LOCK = new Object();
+    private static volatile @NonNull Snapshot snapshot =
+            new Snapshot(0, Map.of(), Map.of(), Map.of(), IntTable.of(Map.of()));
     private static final Map<
                     Integer, CustomQueryAnswerPayload.Type<? extends CustomQueryAnswerPayload>>
-            ANSWER = new HashMap<>();
+            TRANSACTIONS = new ConcurrentHashMap<>();
+
+    private record Snapshot(
+            int version,
+            @NonNull Map<String, CustomPacketPayload.Type<? extends CustomPacketPayload>> custom,
+            @NonNull Map<String, CustomQueryPayload.Type<? extends CustomQueryPayload>> query,
+            @NonNull Map<Integer, CustomQueryAnswerPayload.Type<? extends CustomQueryAnswerPayload>>
+                    answer,
+            @NonNull IntTable<CustomQueryAnswerPayload.Type<? extends CustomQueryAnswerPayload>>
+                    answerTable) {}
+
+    private PayloadRegistry() {}
+
+    /**
+     * Changes whenever an update to the custom or query payloads is published, so that caches of
+     * resolved payload types can tell when they are stale. Answer registrations leave it as is.
+     *
+     * @return the current registry version
+     */
+    public static int version() {
+        return snapshot.version;
+    }
+
+    /**
+     * Applies several registrations as one update. Readers see either none or all of them, and if
+     * the batch throws nothing is published.
+     *
+     * @param registrations the changes to apply
+     */
+    public static void batch(final @NonNull Consumer<@NonNull Batch> registrations) {
+        synchronized (LOCK) {
+            final Batch batch = new Batch(snapshot);
+            registrations.accept(batch);
+            snapshot = batch.snapshot();
+        }
+    }
 
     public static <T extends CustomPacketPayload> void register(
             final CustomPacketPayload.@NonNull Type<T> type, @NonNull Mapping... mappings) {
-        if (mappings.length == 0) {
-            throw new IllegalArgumentException("At least one mapping must be provided");
-        }
-        String resolved = null;
-        for (final Mapping mapping : mappings) {
-            if (mapping.resolve()) {
-                resolved = mapping.id;
-            }
-        }
-        CUSTOM.put(Objects.requireNonNullElseGet(resolved, type::id), type);
+        batch(batch -> batch.register(type, mappings));
+    }
+
+    public static CustomPacketPayload.@Nullable Type<? extends CustomPacketPayload> getCustom(
+            final @NonNull String identifier) {
+        return snapshot.custom.get(identifier);
     }
 
     public static Optional<CustomPacketPayload.Type<? extends CustomPacketPayload>> custom(
             final @NonNull String identifier) {
-        return Optional.ofNullable(CUSTOM.get(identifier));
+        return Optional.ofNullable(getCustom(identifier));
     }
 
     public static void unregisterCustom(final @NonNull String identifier) {
-        CUSTOM.remove(identifier);
+        batch(batch -> batch.unregisterCustom(identifier));
     }
 
     public static <T extends CustomQueryPayload> void register(
             final CustomQueryPayload.@NonNull Type<T> type, @NonNull Mapping... mappings) {
-        if (mappings.length == 0) {
-            throw new IllegalArgumentException("At least one mapping must be provided");
-        }
-        String resolved = null;
-        for (final Mapping mapping : mappings) {
-            if (mapping.resolve()) {
-                resolved = mapping.id;
-            }
-        }
-        QUERY.put(Objects.requireNonNullElseGet(resolved, type::id), type);
+        batch(batch -> batch.register(type, mappings));
+    }
+
+    public static CustomQueryPayload.@Nullable Type<? extends CustomQueryPayload> getQuery(
+            final @NonNull String identifier) {
+        return snapshot.query.get(identifier);
     }
 
     public static Optional<CustomQueryPayload.Type<? extends CustomQueryPayload>> query(
             final @NonNull String identifier) {
-        return Optional.ofNullable(QUERY.get(identifier));
+        return Optional.ofNullable(getQuery(identifier));
     }
 
     public static void unregisterQuery(final @NonNull String identifier) {
-        QUERY.remove(identifier);
+        batch(batch -> batch.unregisterQuery(identifier));
     }
 
     public static <T extends CustomQueryAnswerPayload> void register(
             final CustomQueryAnswerPayload.@NonNull Type<T> type, @NonNull IntMapping... mappings) {
-        if (mappings.length == 0) {
-            throw new IllegalArgumentException("At least one mapping must be provided");
-        }
-
-        Integer resolved = null;
-        for (final IntMapping mapping : mappings) {
-            if (mapping.resolve()) {
-                resolved = mapping.id;
-            }
-        }
-        if (resolved != null || type.id().isPresent()) {
-            ANSWER.put(Objects.requireNonNullElseGet(resolved, type.id()::get), type);
-        }
+        batch(batch -> batch.register(type, mappings));
     }
 
+    /**
+     * Registers the answer type for a single transaction, without publishing a new snapshot.
+     *
+     * @param type the answer type
+     * @param transactionId the transaction id
+     * @throws IllegalArgumentException if an answer is already registered for the id
+     * @deprecated registrations left behind by failed logins are never cleaned up, and the id can
+     *     collide with one handed out by a {@link CustomQueryTransactions}; send the query with
+     *     {@link CustomQueryTransactions#query(CustomQueryPayload, StreamCodec, Consumer)} instead
+     */
+    @Deprecated
     public static <T extends CustomQueryAnswerPayload> void register(
             final CustomQueryAnswerPayload.@NonNull Type<T> type, final int transactionId) {
-        if (ANSWER.containsKey(transactionId)) {
+        if (snapshot.answerTable.get(transactionId) != null
+                || TRANSACTIONS.putIfAbsent(transactionId, type) != null) {
             throw new IllegalArgumentException(
                     "A payload is already registered for transaction ID " + transactionId);
         }
-        ANSWER.put(transactionId, type);
     }
 
+    /**
+     * @param transactionId the transaction id
+     * @deprecated see {@link #register(CustomQueryAnswerPayload.Type, int)}
+     */
+    @Deprecated
     public static void unregisterQueryAnswer(final int transactionId) {
-        ANSWER.remove(transactionId);
+        if (TRANSACTIONS.remove(transactionId) == null
+                && snapshot.answerTable.get(transactionId) != null) {
+            batch(batch -> batch.unregisterQueryAnswer(transactionId));
+        }
+    }
+
+    public static CustomQueryAnswerPayload.@Nullable Type<? extends CustomQueryAnswerPayload>
+            getAnswer(final int transactionId) {
+        final CustomQueryAnswerPayload.Type<? extends CustomQueryAnswerPayload> type =
+                snapshot.answerTable.get(transactionId);
+        if (type != null || TRANSACTIONS.isEmpty()) {
+            return type;
+        }
+        return TRANSACTIONS.get(transactionId);
     }
 
     public static Optional<CustomQueryAnswerPayload.Type<? extends CustomQueryAnswerPayload>>
             answer(final int transactionId) {
-        return Optional.ofNullable(ANSWER.get(transactionId));
+        return Optional.ofNullable(getAnswer(transactionId));
+    }
+
+    /** Working copy of the registry, published by {@link #batch(Consumer)}. */
+    public static final class Batch {
+        private final int version;
+        private boolean payloadsChanged;
+        private final Map<String, CustomPacketPayload.Type<? extends CustomPacketPayload>> custom;
+        private final Map<String, CustomQueryPayload.Type<? extends CustomQueryPayload>> query;
+        private final Map<
+                        Integer, CustomQueryAnswerPayload.Type<? extends CustomQueryAnswerPayload>>
+                answer;
+
+        private Batch(final @NonNull Snapshot snapshot) {
+            this.version = snapshot.version;
+            this.custom = new HashMap<>(snapshot.custom);
+            this.query = new HashMap<>(snapshot.query);
+            this.answer = new HashMap<>(snapshot.answer);
+        }
+
+        private @NonNull Snapshot snapshot() {
+            return new Snapshot(
+                    this.payloadsChanged ? this.version + 1 : this.version,
+                    Map.copyOf(this.custom),
+                    Map.copyOf(this.query),
+                    Map.copyOf(this.answer),
+                    IntTable.of(this.answer));
+        }
+
+        public <T extends CustomPacketPayload> @NonNull Batch register(
+                final CustomPacketPayload.@NonNull Type<T> type, @NonNull Mapping... mappings) {
+            this.custom.put(Utf8StringCache.intern(resolve(type.id(), mappings)), type);
+            this.payloadsChanged = true;
+            return this;
+        }
+
+        public @NonNull Batch unregisterCustom(final @NonNull String identifier) {
+            this.payloadsChanged |= this.custom.remove(identifier) != null;
+            return this;
+        }
+
+        public <T extends CustomQueryPayload> @NonNull Batch register(
+                final CustomQueryPayload.@NonNull Type<T> type, @NonNull Mapping... mappings) {
+            this.query.put(Utf8StringCache.intern(resolve(type.id(), mappings)), type);
+            this.payloadsChanged = true;
+            return this;
+        }
+
+        public @NonNull Batch unregisterQuery(final @NonNull String identifier) {
+            this.payloadsChanged |= this.query.remove(identifier) != null;
+            return this;
+        }
+
+        public <T extends CustomQueryAnswerPayload> @NonNull Batch register(
+                final CustomQueryAnswerPayload.@NonNull Type<T> type,
+                @NonNull IntMapping... mappings) {
+            if (mappings.length == 0) {
+                throw new IllegalArgumentException("At least one mapping must be provided");
+            }
+
+            Integer resolved = null;
+            for (final IntMapping mapping : mappings) {
+                if (mapping.resolve()) {
+                    resolved = mapping.id;
+                }
+            }
+            if (resolved != null || type.id().isPresent()) {
+                this.answer.put(Objects.requireNonNullElseGet(resolved, type.id()::get), type);
+            }
+            return this;
+        }
+
+        public <T extends CustomQueryAnswerPayload> @NonNull Batch register(
+                final CustomQueryAnswerPayload.@NonNull Type<T> type, final int transactionId) {
+            if (this.answer.containsKey(transactionId) || TRANSACTIONS.containsKey(transactionId)) {
+                throw new IllegalArgumentException(
+                        "A payload is already registered for transaction ID " + transactionId);
+            }
+            this.answer.put(transactionId, type);
+            return this;
+        }
+
+        public @NonNull Batch unregisterQueryAnswer(final int transactionId) {
+            this.answer.remove(transactionId);
+            return this;
+        }
+
+        private static @NonNull String resolve(
+                final @NonNull String id, final @NonNull Mapping @NonNull [] mappings) {
+            if (mappings.length == 0) {
+                throw new IllegalArgumentException("At least one mapping must be provided");
+            }
+            String resolved = null;
+            for (final Mapping mapping : mappings) {
+                if (mapping.resolve()) {
+                    resolved = mapping.id;
+                }
+            }
+            return Objects.requireNonNullElse(resolved, id);
+        }
     }
 
     public record Mapping(
@@ -120,7 +274,7 @@ public final class PayloadRegistry {
         }
 
         public boolean resolve() {
-            return Constraint.range(this.since, this.until).result();
+            return RunningVersion.isInRange(this.since, this.until);
         }
     }
 
@@ -137,7 +291,7 @@ public final class PayloadRegistry {
         }
 
         public boolean resolve() {
-            return Constraint.range(this.since, this.until).result();
+            return RunningVersion.isInRange(this.since, this.until);
         }
     }
 }
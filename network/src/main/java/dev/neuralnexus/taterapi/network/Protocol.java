@@ -114,6 +114,16 @@ public enum Protocol {
     }
     // spotless:on
 
+    private static final ProtocolSnapshot SNAPSHOT;
+
+    static {
+        for (final Protocol protocol : values()) {
+            protocol.clientbound.freeze();
+            protocol.serverbound.freeze();
+        }
+        SNAPSHOT = new ProtocolSnapshot(RunningVersion.VERSION, values());
+    }
+
     private final @NonNull String id;
 
     Protocol(final @NonNull String id) {
@@ -124,6 +134,15 @@ public enum Protocol {
         return this.id;
     }
 
+    /**
+     * Gets the packet id tables resolved for the running version.
+     *
+     * @return the snapshot
+     */
+    public static @NonNull ProtocolSnapshot snapshot() {
+        return SNAPSHOT;
+    }
+
     public static Protocol fromId(final @NonNull String id) {
         return switch (id) {
             case "handshake" -> HANDSHAKING;
@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network;
+
+import dev.neuralnexus.taterapi.meta.MinecraftVersion;
+import dev.neuralnexus.taterapi.network.protocol.Packet;
+import dev.neuralnexus.taterapi.network.protocol.PacketFlow;
+import dev.neuralnexus.taterapi.network.protocol.PacketType;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The packet id tables of every protocol and direction, resolved once for the running Minecraft
+ * version when {@link Protocol} is initialized. The tables are frozen, so the snapshot can be held
+ * in a constant and shared between threads.
+ */
+public final class ProtocolSnapshot {
+    private final @NonNull MinecraftVersion version;
+    // Indexed by protocol ordinal, serverbound then clientbound
+    private final @NonNull PacketRegistry @NonNull [] registries;
+
+    ProtocolSnapshot(
+            final @NonNull MinecraftVersion version,
+            final @NonNull Protocol @NonNull [] protocols) {
+        this.version = version;
+        this.registries = new PacketRegistry[protocols.length * 2];
+        for (final Protocol protocol : protocols) {
+            this.registries[protocol.ordinal() * 2] = protocol.serverbound;
+            this.registries[protocol.ordinal() * 2 + 1] = protocol.clientbound;
+        }
+    }
+
+    /**
+     * Gets the snapshot for the running version.
+     *
+     * @return the snapshot
+     */
+    public static @NonNull ProtocolSnapshot current() {
+        return Protocol.snapshot();
+    }
+
+    /**
+     * Gets the version the tables were resolved for.
+     *
+     * @return the running version
+     */
+    public @NonNull MinecraftVersion version() {
+        return this.version;
+    }
+
+    public @NonNull PacketRegistry registry(
+            final @NonNull Protocol protocol, final @NonNull PacketFlow direction) {
+        return this.registries[
+                protocol.ordinal() * 2 + (direction == PacketFlow.CLIENTBOUND ? 1 : 0)];
+    }
+
+    public @Nullable PacketType<Packet> info(
+            final @NonNull Protocol protocol, final @NonNull PacketFlow direction, final int id) {
+        return this.registry(protocol, direction).info(id);
+    }
+
+    public int id(
+            final @NonNull Protocol protocol,
+            final @NonNull PacketFlow direction,
+            final @NonNull Class<? extends Packet> clazz) {
+        return this.registry(protocol, direction).id(clazz);
+    }
+}
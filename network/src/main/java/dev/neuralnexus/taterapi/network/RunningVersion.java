@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network;
+
+import dev.neuralnexus.taterapi.meta.Constraint;
+import dev.neuralnexus.taterapi.meta.MetaAPI;
+import dev.neuralnexus.taterapi.meta.MinecraftVersion;
+
+import org.jspecify.annotations.NonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The running Minecraft version, for resolving mappings without building a {@link Constraint} for
+ * each. Comparisons are memoized per bound, since most mappings share a handful of versions.
+ */
+final class RunningVersion {
+    static final @NonNull MinecraftVersion VERSION = MetaAPI.instance().version();
+
+    private static final Map<MinecraftVersion, Integer> COMPARISONS = new ConcurrentHashMap<>();
+
+    private RunningVersion() {}
+
+    /**
+     * Checks whether the running version is within a range, like {@code Constraint.range(since,
+     * until).result()}.
+     *
+     * @param since the inclusive lower bound, unbounded if unknown
+     * @param until the inclusive upper bound, unbounded if unknown
+     * @return true if the running version is in the range
+     */
+    static boolean isInRange(
+            final @NonNull MinecraftVersion since, final @NonNull MinecraftVersion until) {
+        return (isUnknown(since) || compareTo(since) >= 0)
+                && (isUnknown(until) || compareTo(until) <= 0);
+    }
+
+    private static boolean isUnknown(final @NonNull MinecraftVersion version) {
+        return version.version().equals("unknown");
+    }
+
+    private static int compareTo(final @NonNull MinecraftVersion bound) {
+        return COMPARISONS.computeIfAbsent(bound, VERSION::compareTo);
+    }
+}
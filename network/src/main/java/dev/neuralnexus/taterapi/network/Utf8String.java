@@ -22,7 +22,29 @@ import java.nio.charset.StandardCharsets;
  * for compatibility's sake when dealing with multi-version code.
  */
 final class Utf8String {
+    /**
+     * Longest string whose UTF-8 encoding (at most 3 bytes per char) always fits a 1 byte VarInt
+     */
+    private static final int SHORT_STRING_CHARS = 127 / 3;
+
     public static @NonNull String read(final @NonNull ByteBuf buf, int maxLength) {
+        return read(buf, maxLength, false);
+    }
+
+    /**
+     * Reads a length-prefixed UTF-8 string, returning the canonical instance from {@link
+     * Utf8StringCache} for short strings.
+     *
+     * @param buf the buffer to read from
+     * @param maxLength the maximum length in chars
+     * @return the string
+     */
+    public static @NonNull String readInterned(final @NonNull ByteBuf buf, int maxLength) {
+        return read(buf, maxLength, true);
+    }
+
+    private static @NonNull String read(
+            final @NonNull ByteBuf buf, int maxLength, final boolean intern) {
         int i = ByteBufUtil.utf8MaxBytes(maxLength);
         int j = VarInt.read(buf);
         if (j > i) {
@@ -41,7 +63,10 @@ final class Utf8String {
                 throw new DecoderException(
                         "Not enough bytes in buffer, expected " + j + ", but got " + k);
             } else {
-                String s = buf.toString(buf.readerIndex(), j, StandardCharsets.UTF_8);
+                String s =
+                        intern
+                                ? Utf8StringCache.get(buf, buf.readerIndex(), j)
+                                : buf.toString(buf.readerIndex(), j, StandardCharsets.UTF_8);
                 buf.readerIndex(buf.readerIndex() + j);
                 if (s.length() > maxLength) {
                     int length = s.length();
@@ -58,8 +83,40 @@ final class Utf8String {
         }
     }
 
+    /**
+     * Writes a length-prefixed UTF-8 string. On Netty 4.1+ the encoded length is computed up front
+     * and the string is encoded straight into the buffer, without the temporary {@code byte[]} that
+     * {@link String#getBytes(java.nio.charset.Charset)} would allocate.
+     *
+     * @param buf the buffer to write to
+     * @param string the string to write
+     * @param maxLength the maximum encoded length in bytes
+     * @return the buffer
+     */
     public static @NonNull ByteBuf write(
             final @NonNull ByteBuf buf, final @NonNull String string, int maxLength) {
+        if (!ByteBufUtil.HAS_UTF8_WRITER) {
+            return writeLegacy(buf, string, maxLength);
+        }
+        if (string.length() <= SHORT_STRING_CHARS && string.length() * 3 <= maxLength) {
+            // Encoded length is below 128, so reserve a single byte prefix and backfill it
+            final int prefixIndex = buf.writerIndex();
+            buf.writeByte(0);
+            buf.setByte(prefixIndex, io.netty.buffer.ByteBufUtil.writeUtf8(buf, string));
+            return buf;
+        }
+        final int length = io.netty.buffer.ByteBufUtil.utf8Bytes(string);
+        if (length > maxLength) {
+            throw new EncoderException(
+                    "String too big (was " + length + " bytes encoded, max " + maxLength + ")");
+        }
+        VarInt.write(buf, length);
+        io.netty.buffer.ByteBufUtil.reserveAndWriteUtf8(buf, string, length);
+        return buf;
+    }
+
+    private static @NonNull ByteBuf writeLegacy(
+            final @NonNull ByteBuf buf, final @NonNull String string, int maxLength) {
         byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
         if (bytes.length > maxLength) {
             throw new EncoderException(
@@ -77,9 +134,12 @@ final class Utf8String {
 
     static final class ByteBufUtil {
         private static final int MAX_BYTES_PER_CHAR_UTF8;
+        // ByteBufUtil.utf8Bytes and reserveAndWriteUtf8 were added in Netty 4.1
+        private static final boolean HAS_UTF8_WRITER;
 
         static { // Netty 4.1 differences
-            if (Constraint.noLessThan(MinecraftVersions.V12).result()) {
+            HAS_UTF8_WRITER = Constraint.noLessThan(MinecraftVersions.V12).result();
+            if (HAS_UTF8_WRITER) {
                 MAX_BYTES_PER_CHAR_UTF8 =
                         (int) CharsetUtil.encoder(CharsetUtil.UTF_8).maxBytesPerChar();
             } else {
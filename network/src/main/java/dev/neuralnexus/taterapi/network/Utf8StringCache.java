@@ -0,0 +1,147 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network;
+
+import io.netty.buffer.ByteBuf;
+
+import org.jspecify.annotations.NonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Bounded intern table for short, frequently repeated strings such as channel ids and subchannel
+ * names. Lookups hash the raw UTF-8 bytes in the buffer, so a hit returns the canonical instance
+ * without decoding a new {@link String}. <br>
+ * The table is direct-mapped: a colliding miss replaces the slot. Slots hold immutable entries, so
+ * racing readers and writers at worst cause an extra decode.
+ */
+final class Utf8StringCache {
+    /** Longer strings are decoded as usual and never cached */
+    static final int MAX_BYTES = 64;
+
+    private static final int SIZE = 1024;
+    private static final int MASK = SIZE - 1;
+    private static final Entry[] TABLE = new Entry[SIZE];
+
+    private record Entry(byte @NonNull [] bytes, int hash, @NonNull String value) {
+        boolean matches(final @NonNull ByteBuf buf, final int index, final int length) {
+            if (this.bytes.length != length) {
+                return false;
+            }
+            if (buf.hasArray()) {
+                final byte[] array = buf.array();
+                final int offset = buf.arrayOffset() + index;
+                for (int i = 0; i < length; i++) {
+                    if (this.bytes[i] != array[offset + i]) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            int i = 0;
+            for (; i + Long.BYTES <= length; i += Long.BYTES) {
+                if (getLong(this.bytes, i) != buf.getLong(index + i)) {
+                    return false;
+                }
+            }
+            for (; i < length; i++) {
+                if (this.bytes[i] != buf.getByte(index + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private Utf8StringCache() {}
+
+    /**
+     * Gets the canonical string for the UTF-8 bytes at the given index, decoding and caching it on
+     * a miss. The reader index is not modified.
+     *
+     * @param buf the buffer to read from
+     * @param index the index of the first byte
+     * @param length the encoded length in bytes
+     * @return the decoded string
+     */
+    static @NonNull String get(final @NonNull ByteBuf buf, final int index, final int length) {
+        if (length > MAX_BYTES) {
+            return buf.toString(index, length, StandardCharsets.UTF_8);
+        }
+        final int hash = hash(buf, index, length);
+        final int slot = hash & MASK;
+        final Entry entry = TABLE[slot];
+        if (entry != null && entry.hash == hash && entry.matches(buf, index, length)) {
+            return entry.value;
+        }
+        final byte[] bytes = new byte[length];
+        buf.getBytes(index, bytes);
+        final String value = new String(bytes, StandardCharsets.UTF_8);
+        TABLE[slot] = new Entry(bytes, hash, value);
+        return value;
+    }
+
+    /**
+     * Seeds the table with a known string, so that later reads of it return this instance.
+     *
+     * @param value the string
+     * @return the canonical instance, which may be a previously cached equal string
+     */
+    static @NonNull String intern(final @NonNull String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_BYTES) {
+            return value;
+        }
+        final int hash = hash(bytes, 0, bytes.length);
+        final int slot = hash & MASK;
+        final Entry entry = TABLE[slot];
+        if (entry != null && entry.hash == hash && Arrays.equals(entry.bytes, bytes)) {
+            return entry.value;
+        }
+        TABLE[slot] = new Entry(bytes, hash, value);
+        return value;
+    }
+
+    /** Hashes 8 bytes at a time, since each ByteBuf access pays for its own bounds check */
+    private static int hash(final @NonNull ByteBuf buf, final int index, final int length) {
+        if (buf.hasArray()) {
+            return hash(buf.array(), buf.arrayOffset() + index, length);
+        }
+        int h = length;
+        int i = 0;
+        for (; i + Long.BYTES <= length; i += Long.BYTES) {
+            h = 31 * h + Long.hashCode(buf.getLong(index + i));
+        }
+        for (; i < length; i++) {
+            h = 31 * h + buf.getByte(index + i);
+        }
+        return h ^ h >>> 16;
+    }
+
+    private static int hash(final byte @NonNull [] bytes, final int offset, final int length) {
+        int h = length;
+        int i = 0;
+        for (; i + Long.BYTES <= length; i += Long.BYTES) {
+            h = 31 * h + Long.hashCode(getLong(bytes, offset + i));
+        }
+        for (; i < length; i++) {
+            h = 31 * h + bytes[offset + i];
+        }
+        return h ^ h >>> 16;
+    }
+
+    /** Reads 8 bytes big-endian, matching {@link ByteBuf#getLong(int)} */
+    private static long getLong(final byte @NonNull [] bytes, final int index) {
+        return (long) bytes[index] << 56
+                | (bytes[index + 1] & 0xFFL) << 48
+                | (bytes[index + 2] & 0xFFL) << 40
+                | (bytes[index + 3] & 0xFFL) << 32
+                | (bytes[index + 4] & 0xFFL) << 24
+                | (bytes[index + 5] & 0xFFL) << 16
+                | (bytes[index + 6] & 0xFFL) << 8
+                | bytes[index + 7] & 0xFFL;
+    }
+}
@@ -19,41 +19,94 @@ final class VarInt {
     private static final int CONTINUATION_BIT_MASK = 128;
     private static final int DATA_BITS_PER_BYTE = 7;
 
-    public static int getByteSize(final int bytes) {
-        for (int i = 1; i < MAX_VARINT_SIZE; ++i) {
-            if ((bytes & -1 << i * DATA_BITS_PER_BYTE) == 0) {
-                return i;
-            }
+    /** Encoded size indexed by {@link Integer#numberOfLeadingZeros(int)} */
+    private static final byte[] BYTE_SIZES = new byte[Integer.SIZE + 1];
+
+    static {
+        for (int i = 0; i <= Integer.SIZE; i++) {
+            final int bits = Integer.SIZE - i;
+            BYTE_SIZES[i] =
+                    (byte) (bits == 0 ? 1 : (bits + DATA_BITS_PER_BYTE - 1) / DATA_BITS_PER_BYTE);
         }
-        return MAX_VARINT_SIZE;
+    }
+
+    public static int getByteSize(final int bytes) {
+        return BYTE_SIZES[Integer.numberOfLeadingZeros(bytes)];
     }
 
     public static boolean hasContinuationBit(final byte b) {
         return (b & CONTINUATION_BIT_MASK) == CONTINUATION_BIT_MASK;
     }
 
+    /**
+     * Reads a VarInt with the loop unrolled, so that the common single byte case returns after one
+     * read and branch.
+     *
+     * @param buf the buffer to read from
+     * @return the decoded value
+     */
     public static int read(final @NonNull ByteBuf buf) {
-        int i = 0;
-        int j = 0;
-
-        byte b0;
-        do {
-            b0 = buf.readByte();
-            i |= (b0 & DATA_BITS_MASK) << j++ * DATA_BITS_PER_BYTE;
-            if (j > MAX_VARINT_SIZE) {
-                throw new RuntimeException("VarInt too big");
-            }
-        } while (hasContinuationBit(b0));
-
-        return i;
+        byte b = buf.readByte();
+        if (b >= 0) {
+            return b;
+        }
+        int value = b & DATA_BITS_MASK;
+        b = buf.readByte();
+        if (b >= 0) {
+            return value | b << DATA_BITS_PER_BYTE;
+        }
+        value |= (b & DATA_BITS_MASK) << DATA_BITS_PER_BYTE;
+        b = buf.readByte();
+        if (b >= 0) {
+            return value | b << 2 * DATA_BITS_PER_BYTE;
+        }
+        value |= (b & DATA_BITS_MASK) << 2 * DATA_BITS_PER_BYTE;
+        b = buf.readByte();
+        if (b >= 0) {
+            return value | b << 3 * DATA_BITS_PER_BYTE;
+        }
+        value |= (b & DATA_BITS_MASK) << 3 * DATA_BITS_PER_BYTE;
+        b = buf.readByte();
+        if (b >= 0) {
+            return value | b << 4 * DATA_BITS_PER_BYTE;
+        }
+        throw new RuntimeException("VarInt too big");
     }
 
-    public static @NonNull ByteBuf write(final @NonNull ByteBuf buf, int varInt) {
-        while ((varInt & -CONTINUATION_BIT_MASK) != 0) {
-            buf.writeByte(varInt & DATA_BITS_MASK | CONTINUATION_BIT_MASK);
-            varInt >>>= DATA_BITS_PER_BYTE;
+    /**
+     * Writes a VarInt, emitting each possible encoded length with as few buffer writes as possible
+     * instead of looping byte-by-byte.
+     *
+     * @param buf the buffer to write to
+     * @param varInt the value to write
+     * @return the buffer
+     */
+    public static @NonNull ByteBuf write(final @NonNull ByteBuf buf, final int varInt) {
+        switch (getByteSize(varInt)) {
+            case 1 -> buf.writeByte(varInt);
+            case 2 ->
+                    buf.writeShort(
+                            (varInt & DATA_BITS_MASK | CONTINUATION_BIT_MASK) << 8 | varInt >>> 7);
+            case 3 ->
+                    buf.writeMedium(
+                            (varInt & DATA_BITS_MASK | CONTINUATION_BIT_MASK) << 16
+                                    | (varInt >>> 7 & DATA_BITS_MASK | CONTINUATION_BIT_MASK) << 8
+                                    | varInt >>> 14);
+            case 4 ->
+                    buf.writeInt(
+                            (varInt & DATA_BITS_MASK | CONTINUATION_BIT_MASK) << 24
+                                    | (varInt >>> 7 & DATA_BITS_MASK | CONTINUATION_BIT_MASK) << 16
+                                    | (varInt >>> 14 & DATA_BITS_MASK | CONTINUATION_BIT_MASK) << 8
+                                    | varInt >>> 21);
+            default -> {
+                buf.writeInt(
+                        (varInt & DATA_BITS_MASK | CONTINUATION_BIT_MASK) << 24
+                                | (varInt >>> 7 & DATA_BITS_MASK | CONTINUATION_BIT_MASK) << 16
+                                | (varInt >>> 14 & DATA_BITS_MASK | CONTINUATION_BIT_MASK) << 8
+                                | (varInt >>> 21 & DATA_BITS_MASK | CONTINUATION_BIT_MASK));
+                buf.writeByte(varInt >>> 28);
+            }
         }
-        buf.writeByte(varInt);
         return buf;
     }
 }
@@ -19,34 +19,47 @@ public final class VarLong {
     private static final int CONTINUATION_BIT_MASK = 128;
     private static final int DATA_BITS_PER_BYTE = 7;
 
-    public static int getByteSize(final long bytes) {
-        for (int i = 1; i < MAX_VARLONG_SIZE; i++) {
-            if ((bytes & -1L << i * DATA_BITS_PER_BYTE) == 0L) {
-                return i;
-            }
+    /** Encoded size indexed by {@link Long#numberOfLeadingZeros(long)} */
+    private static final byte[] BYTE_SIZES = new byte[Long.SIZE + 1];
+
+    static {
+        for (int i = 0; i <= Long.SIZE; i++) {
+            final int bits = Long.SIZE - i;
+            BYTE_SIZES[i] =
+                    (byte) (bits == 0 ? 1 : (bits + DATA_BITS_PER_BYTE - 1) / DATA_BITS_PER_BYTE);
         }
+    }
 
-        return MAX_VARLONG_SIZE;
+    public static int getByteSize(final long bytes) {
+        return BYTE_SIZES[Long.numberOfLeadingZeros(bytes)];
     }
 
     public static boolean hasContinuationBit(final byte b) {
         return (b & CONTINUATION_BIT_MASK) == CONTINUATION_BIT_MASK;
     }
 
+    /**
+     * Reads a VarLong, returning after a single read and branch for the common single byte case.
+     *
+     * @param buf the buffer to read from
+     * @return the decoded value
+     */
     public static long read(final @NonNull ByteBuf buf) {
-        long l = 0L;
-        int i = 0;
-
-        byte b;
-        do {
+        byte b = buf.readByte();
+        if (b >= 0) {
+            return b;
+        }
+        long value = b & DATA_BITS_MASK;
+        for (int shift = DATA_BITS_PER_BYTE;
+                shift < MAX_VARLONG_SIZE * DATA_BITS_PER_BYTE;
+                shift += DATA_BITS_PER_BYTE) {
             b = buf.readByte();
-            l |= (long) (b & DATA_BITS_MASK) << i++ * DATA_BITS_PER_BYTE;
-            if (i > MAX_VARLONG_SIZE) {
-                throw new RuntimeException("VarLong too big");
+            value |= (long) (b & DATA_BITS_MASK) << shift;
+            if (b >= 0) {
+                return value;
             }
-        } while (hasContinuationBit(b));
-
-        return l;
+        }
+        throw new RuntimeException("VarLong too big");
     }
 
     public static ByteBuf write(final @NonNull ByteBuf buf, long varLong) {
@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.TooLongFrameException;
+
+import org.jspecify.annotations.NonNull;
+
+import java.util.List;
+
+/**
+ * Splits the inbound stream into frames prefixed with a VarInt length of at most 21 bits. Frames
+ * are emitted as retained slices of the inbound buffer rather than copies, and a frame whose length
+ * exceeds the maximum is rejected as soon as its prefix arrives, before the body is buffered.
+ */
+public final class Varint21FrameDecoder extends ByteToMessageDecoder {
+    public static final int MAX_HEADER_SIZE = 3;
+    public static final int MAX_FRAME_SIZE = (1 << 7 * MAX_HEADER_SIZE) - 1;
+
+    private final int maxFrameSize;
+
+    public Varint21FrameDecoder() {
+        this(MAX_FRAME_SIZE);
+    }
+
+    /**
+     * @param maxFrameSize the largest frame accepted, in bytes
+     */
+    public Varint21FrameDecoder(final int maxFrameSize) {
+        if (maxFrameSize < 0 || maxFrameSize > MAX_FRAME_SIZE) {
+            throw new IllegalArgumentException(
+                    "maxFrameSize must be between 0 and " + MAX_FRAME_SIZE + ": " + maxFrameSize);
+        }
+        this.maxFrameSize = maxFrameSize;
+    }
+
+    @Override
+    protected void decode(
+            final @NonNull ChannelHandlerContext ctx,
+            final @NonNull ByteBuf in,
+            final @NonNull List<Object> out) {
+        final int start = in.readerIndex();
+        final int readable = in.readableBytes();
+        int length = 0;
+        int headerSize = 0;
+        while (true) {
+            if (headerSize == readable) {
+                return; // Length prefix not complete yet
+            }
+            final byte b = in.getByte(start + headerSize);
+            length |= (b & 0x7F) << headerSize++ * 7;
+            if (b >= 0) {
+                break;
+            }
+            if (headerSize == MAX_HEADER_SIZE) {
+                throw new CorruptedFrameException("Length wider than 21-bit");
+            }
+        }
+        if (length > this.maxFrameSize) {
+            throw new TooLongFrameException(
+                    "Frame of " + length + " bytes exceeds the maximum of " + this.maxFrameSize);
+        }
+        if (readable - headerSize < length) {
+            return;
+        }
+        in.skipBytes(headerSize);
+        out.add(FriendlyByteBuf.readRetainedSlice(in, length));
+    }
+}
@@ -0,0 +1,40 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.EncoderException;
+import io.netty.handler.codec.MessageToMessageEncoder;
+
+import org.jspecify.annotations.NonNull;
+
+import java.util.List;
+
+/**
+ * Prefixes each outbound frame with its VarInt length. The length is written to a small buffer of
+ * its own and the frame itself is passed on untouched, so the body is never copied.
+ */
+@ChannelHandler.Sharable
+public final class Varint21LengthFieldPrepender extends MessageToMessageEncoder<ByteBuf> {
+    @Override
+    protected void encode(
+            final @NonNull ChannelHandlerContext ctx,
+            final @NonNull ByteBuf msg,
+            final @NonNull List<Object> out) {
+        final int length = msg.readableBytes();
+        if (length > Varint21FrameDecoder.MAX_FRAME_SIZE) {
+            throw new EncoderException(
+                    "Frame of "
+                            + length
+                            + " bytes exceeds the maximum of "
+                            + Varint21FrameDecoder.MAX_FRAME_SIZE);
+        }
+        final ByteBuf header = ctx.alloc().buffer(VarInt.getByteSize(length));
+        out.add(VarInt.write(header, length));
+        out.add(msg.retain());
+    }
+}
@@ -0,0 +1,26 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network.capture;
+
+import dev.neuralnexus.taterapi.network.Protocol;
+import dev.neuralnexus.taterapi.network.protocol.PacketFlow;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * A frame read back from a {@link PacketCapture} file.
+ *
+ * @param timestampNanos when the frame was recorded, relative to when the capture was opened
+ * @param flow the direction of the frame
+ * @param protocol the protocol the frame was sent in
+ * @param connection identifies the connection the frame was sent on
+ * @param data the packet id followed by its body
+ */
+public record CapturedFrame(
+        long timestampNanos,
+        @NonNull PacketFlow flow,
+        @NonNull Protocol protocol,
+        int connection,
+        byte @NonNull [] data) {}
@@ -0,0 +1,235 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network.capture;
+
+import dev.neuralnexus.taterapi.network.Protocol;
+import dev.neuralnexus.taterapi.network.protocol.PacketFlow;
+
+import io.netty.buffer.ByteBuf;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Captures packet frames, the packet id followed by its body, into a memory-mapped ring file for
+ * {@link PacketReplay}. Once the ring is full the oldest frames are overwritten. <br>
+ * Writers reserve space with a CAS and copy the frame straight into the mapping, then publish it by
+ * writing the record's length last, so recording from a Netty I/O thread doesn't lock or make a
+ * system call. The file's pages are touched when it is opened, so writers don't usually fault them
+ * in, though a write can still stall if the OS has evicted a page or is writing it back. <br>
+ * The file starts with a {@value #FILE_HEADER} byte header, followed by records aligned to {@value
+ * #RECORD_HEADER} bytes. Each record is a header holding its length (negative for padding at the
+ * end of the ring), a magic number, its position in the logical stream, a timestamp, the flow,
+ * protocol and connection, followed by the frame.
+ */
+public final class PacketCapture implements AutoCloseable {
+    public static final int DEFAULT_CAPACITY = 64 << 20;
+
+    static final int MAGIC = 0x544C4350; // TLCP
+    static final int RECORD_MAGIC = 0x46524D45; // FRME
+    static final int VERSION = 1;
+    static final int FILE_HEADER = 64;
+    static final int RECORD_HEADER = 32;
+
+    private static final int PAGE_SIZE = 4096;
+    private static volatile @Nullable PacketCapture active;
+
+    private final @NonNull FileChannel channel;
+    private final @NonNull MappedByteBuffer buffer;
+    private final int capacity;
+    private final long startNanos;
+    private final AtomicLong position = new AtomicLong();
+    private final AtomicLong published = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private volatile boolean closed;
+
+    private PacketCapture(
+            final @NonNull FileChannel channel,
+            final @NonNull MappedByteBuffer buffer,
+            final int capacity) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = capacity;
+        this.startNanos = System.nanoTime();
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, capacity);
+        buffer.putLong(16, System.currentTimeMillis());
+        for (int i = FILE_HEADER; i < FILE_HEADER + capacity; i += PAGE_SIZE) {
+            buffer.put(i, (byte) 0);
+        }
+    }
+
+    /**
+     * Creates a capture file, replacing any existing file. Call {@link #start()} to begin
+     * capturing.
+     *
+     * @param file the file to capture to
+     * @param capacity the size of the ring in bytes, rounded down to a multiple of {@value
+     *     #RECORD_HEADER}
+     * @return the capture
+     * @throws IOException if the file could not be created or mapped
+     */
+    public static @NonNull PacketCapture open(final @NonNull Path file, final int capacity)
+            throws IOException {
+        final int aligned = capacity & -RECORD_HEADER;
+        if (aligned < PAGE_SIZE || aligned > Integer.MAX_VALUE - FILE_HEADER) {
+            throw new IllegalArgumentException("Invalid capture capacity: " + capacity);
+        }
+        final FileChannel channel =
+                FileChannel.open(
+                        file,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING,
+                        StandardOpenOption.READ,
+                        StandardOpenOption.WRITE);
+        try {
+            final MappedByteBuffer buffer =
+                    channel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_HEADER + aligned);
+            return new PacketCapture(channel, buffer, aligned);
+        } catch (final IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the capture the packet codecs record to, if any.
+     *
+     * @return the active capture, or null when not capturing
+     */
+    public static @Nullable PacketCapture active() {
+        return active;
+    }
+
+    /** Makes this the capture that the packet codecs record to, replacing any other */
+    public void start() {
+        if (this.closed) {
+            throw new IllegalStateException("Capture is closed");
+        }
+        active = this;
+    }
+
+    /** Stops the packet codecs recording to this capture, if it is the active one */
+    public void stop() {
+        if (active == this) {
+            active = null;
+        }
+    }
+
+    /**
+     * Records a frame, leaving the buffer's indices untouched. Frames too large for the ring are
+     * dropped.
+     *
+     * @param flow the direction of the frame
+     * @param protocol the protocol the frame was sent in
+     * @param connection identifies the connection the frame was sent on
+     * @param frame the buffer holding the frame
+     * @param index the index of the frame's first byte, the start of the packet id
+     * @param length the length of the frame
+     */
+    public void record(
+            final @NonNull PacketFlow flow,
+            final @NonNull Protocol protocol,
+            final int connection,
+            final @NonNull ByteBuf frame,
+            final int index,
+            final int length) {
+        if (this.closed || length <= 0 || length > this.capacity - RECORD_HEADER) {
+            this.dropped.increment();
+            return;
+        }
+        final int size = align(RECORD_HEADER + length);
+        long start;
+        int offset;
+        int tail;
+        do {
+            start = this.position.get();
+            offset = (int) (start % this.capacity);
+            tail = this.capacity - offset;
+        } while (!this.position.compareAndSet(start, start + (size <= tail ? size : tail + size)));
+        if (size > tail) {
+            this.header(offset, start, -tail, 0, flow, protocol, connection);
+            start += tail;
+            offset = 0;
+        }
+        this.header(
+                offset, start, 0, System.nanoTime() - this.startNanos, flow, protocol, connection);
+        final int at = FILE_HEADER + offset;
+        final ByteBuffer target = this.buffer.duplicate();
+        target.position(at + RECORD_HEADER);
+        target.limit(at + RECORD_HEADER + length);
+        frame.getBytes(index, target);
+        this.publish(at, length);
+    }
+
+    private void header(
+            final int offset,
+            final long position,
+            final int length,
+            final long timestamp,
+            final @NonNull PacketFlow flow,
+            final @NonNull Protocol protocol,
+            final int connection) {
+        final int at = FILE_HEADER + offset;
+        this.buffer.putInt(at, 0);
+        this.buffer.putInt(at + 4, RECORD_MAGIC);
+        this.buffer.putLong(at + 8, position);
+        this.buffer.putLong(at + 16, timestamp);
+        this.buffer.put(at + 24, (byte) flow.ordinal());
+        this.buffer.put(at + 25, (byte) protocol.ordinal());
+        this.buffer.putShort(at + 26, (short) 0);
+        this.buffer.putInt(at + 28, connection);
+        if (length != 0) {
+            this.publish(at, length);
+        }
+    }
+
+    /** Writes a record's length once the rest of it is in place */
+    private void publish(final int at, final int length) {
+        // The atomic update is a full fence, so the length can't become visible before the record
+        this.published.incrementAndGet();
+        this.buffer.putInt(at, length);
+    }
+
+    static int align(final int size) {
+        return size + RECORD_HEADER - 1 & -RECORD_HEADER;
+    }
+
+    /**
+     * @return the number of bytes written to the ring, including those since overwritten
+     */
+    public long position() {
+        return this.position.get();
+    }
+
+    /**
+     * @return the number of frames that were too large for the ring
+     */
+    public long dropped() {
+        return this.dropped.sum();
+    }
+
+    /**
+     * Stops capturing and flushes the file. Frames that are still being written by other threads
+     * may be lost.
+     */
+    @Override
+    public void close() throws IOException {
+        this.stop();
+        this.closed = true;
+        this.buffer.force();
+        this.channel.close();
+    }
+}
@@ -0,0 +1,238 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network.capture;
+
+import static dev.neuralnexus.taterapi.network.capture.PacketCapture.FILE_HEADER;
+import static dev.neuralnexus.taterapi.network.capture.PacketCapture.MAGIC;
+import static dev.neuralnexus.taterapi.network.capture.PacketCapture.RECORD_HEADER;
+import static dev.neuralnexus.taterapi.network.capture.PacketCapture.RECORD_MAGIC;
+import static dev.neuralnexus.taterapi.network.capture.PacketCapture.VERSION;
+
+import dev.neuralnexus.taterapi.network.FriendlyByteBuf;
+import dev.neuralnexus.taterapi.network.Protocol;
+import dev.neuralnexus.taterapi.network.protocol.Packet;
+import dev.neuralnexus.taterapi.network.protocol.PacketFlow;
+import dev.neuralnexus.taterapi.network.protocol.PacketType;
+
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.DecoderException;
+
+import org.jspecify.annotations.NonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads {@link PacketCapture} files and replays their frames through the {@link Protocol} packet
+ * codecs, and so the {@link dev.neuralnexus.taterapi.network.PayloadRegistry} payload codecs, as
+ * fast as possible. Each frame is decoded the way {@link
+ * dev.neuralnexus.taterapi.network.PacketDecoder} would and the packet is encoded again. <br>
+ * Run from the command line with {@code PacketReplay <capture file> [iterations]}.
+ */
+public final class PacketReplay {
+    private PacketReplay() {}
+
+    /**
+     * Reads the frames still held in a capture file, oldest first.
+     *
+     * @param file the capture file
+     * @return the frames
+     * @throws IOException if the file could not be read or is not a capture
+     */
+    public static @NonNull List<CapturedFrame> read(final @NonNull Path file) throws IOException {
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size < FILE_HEADER) {
+                throw new IOException("Not a packet capture: " + file);
+            }
+            final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt(0) != MAGIC) {
+                throw new IOException("Not a packet capture: " + file);
+            }
+            if (buffer.getInt(4) != VERSION) {
+                throw new IOException("Unsupported capture version " + buffer.getInt(4));
+            }
+            final int capacity = buffer.getInt(8);
+            if (capacity <= 0 || size < FILE_HEADER + (long) capacity) {
+                throw new IOException("Truncated packet capture: " + file);
+            }
+            return read(buffer, capacity);
+        }
+    }
+
+    /**
+     * The record at the start of the ring begins the newest lap, which runs up to where the writers
+     * stopped. What is left of the previous lap follows, starting at its first record that wasn't
+     * overwritten.
+     */
+    private static @NonNull List<CapturedFrame> read(
+            final @NonNull ByteBuffer buffer, final int capacity) {
+        if (buffer.getInt(FILE_HEADER) == 0 || buffer.getInt(FILE_HEADER + 4) != RECORD_MAGIC) {
+            return List.of();
+        }
+        final long lap = buffer.getLong(FILE_HEADER + 8);
+        final List<CapturedFrame> newest = new ArrayList<>();
+        final int end = walk(buffer, capacity, 0, lap, newest);
+        final List<CapturedFrame> frames = new ArrayList<>();
+        if (lap >= capacity) {
+            final long previous = lap - capacity;
+            for (int offset = end; offset < capacity; offset += RECORD_HEADER) {
+                final int at = FILE_HEADER + offset;
+                if (buffer.getInt(at + 4) == RECORD_MAGIC
+                        && buffer.getLong(at + 8) == previous + offset
+                        && buffer.getInt(at) != 0) {
+                    walk(buffer, capacity, offset, previous, frames);
+                    break;
+                }
+            }
+        }
+        frames.addAll(newest);
+        return frames;
+    }
+
+    /** Follows records while each is committed and sits where its lap puts it */
+    private static int walk(
+            final @NonNull ByteBuffer buffer,
+            final int capacity,
+            int offset,
+            final long lap,
+            final @NonNull List<CapturedFrame> frames) {
+        final PacketFlow[] flows = PacketFlow.values();
+        final Protocol[] protocols = Protocol.values();
+        while (offset < capacity) {
+            final int at = FILE_HEADER + offset;
+            final int length = buffer.getInt(at);
+            if (length == 0
+                    || buffer.getInt(at + 4) != RECORD_MAGIC
+                    || buffer.getLong(at + 8) != lap + offset) {
+                break;
+            }
+            if (length < 0) {
+                offset -= length;
+                continue;
+            }
+            final int flow = buffer.get(at + 24);
+            final int protocol = buffer.get(at + 25);
+            if (length > capacity - offset - RECORD_HEADER
+                    || flow < 0
+                    || flow >= flows.length
+                    || protocol < 0
+                    || protocol >= protocols.length) {
+                break;
+            }
+            final byte[] data = new byte[length];
+            final ByteBuffer source = buffer.duplicate();
+            source.position(at + RECORD_HEADER);
+            source.get(data);
+            frames.add(
+                    new CapturedFrame(
+                            buffer.getLong(at + 16),
+                            flows[flow],
+                            protocols[protocol],
+                            buffer.getInt(at + 28),
+                            data));
+            offset += PacketCapture.align(RECORD_HEADER + length);
+        }
+        return offset;
+    }
+
+    /**
+     * Decodes and re-encodes each frame, a number of times over.
+     *
+     * @param frames the frames to replay
+     * @param iterations how many times to replay them
+     * @return the throughput
+     */
+    public static @NonNull Result replay(
+            final @NonNull List<CapturedFrame> frames, final int iterations) {
+        final FriendlyByteBuf[] inputs = new FriendlyByteBuf[frames.size()];
+        for (int i = 0; i < inputs.length; i++) {
+            inputs[i] = new FriendlyByteBuf(Unpooled.wrappedBuffer(frames.get(i).data()));
+        }
+        final FriendlyByteBuf output = new FriendlyByteBuf(Unpooled.buffer());
+        long count = 0;
+        long bytes = 0;
+        long failures = 0;
+        final long start = System.nanoTime();
+        for (int n = 0; n < iterations; n++) {
+            for (int i = 0; i < inputs.length; i++) {
+                final CapturedFrame frame = frames.get(i);
+                try {
+                    replay(frame, inputs[i].readerIndex(0), output.clear());
+                    count++;
+                    bytes += frame.data().length;
+                } catch (final RuntimeException e) {
+                    failures++;
+                }
+            }
+        }
+        return new Result(count, bytes, failures, System.nanoTime() - start);
+    }
+
+    private static void replay(
+            final @NonNull CapturedFrame frame,
+            final @NonNull FriendlyByteBuf input,
+            final @NonNull FriendlyByteBuf output) {
+        final int id = input.readVarInt();
+        final PacketType<Packet> type = frame.protocol().info(frame.flow(), id);
+        if (type == null) {
+            throw new DecoderException(
+                    "Bad packet id "
+                            + id
+                            + " for "
+                            + frame.flow().id()
+                            + " "
+                            + frame.protocol().id());
+        }
+        final Packet packet = type.codec().decode(input);
+        output.writeVarInt(frame.protocol().id(frame.flow(), packet.getClass()));
+        packet.type().codec().encode(output, packet);
+    }
+
+    /**
+     * @param frames the number of frames replayed successfully
+     * @param bytes the size of those frames
+     * @param failures the number of frames that failed to decode or encode
+     * @param nanos how long the replay took
+     */
+    public record Result(long frames, long bytes, long failures, long nanos) {
+        public double framesPerSecond() {
+            return this.nanos == 0 ? 0 : this.frames * 1e9 / this.nanos;
+        }
+
+        public double bytesPerSecond() {
+            return this.nanos == 0 ? 0 : this.bytes * 1e9 / this.nanos;
+        }
+
+        @Override
+        public @NonNull String toString() {
+            return String.format(
+                    "%d frames (%d failed), %.1f MiB in %.1f ms: %.0f frames/s, %.1f MiB/s",
+                    this.frames,
+                    this.failures,
+                    this.bytes / 1048576.0,
+                    this.nanos / 1e6,
+                    this.framesPerSecond(),
+                    this.bytesPerSecond() / 1048576);
+        }
+    }
+
+    public static void main(final String @NonNull [] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: PacketReplay <capture file> [iterations]");
+            return;
+        }
+        final List<CapturedFrame> frames = read(Path.of(args[0]));
+        final int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        System.out.println("Replaying " + frames.size() + " frames " + iterations + " times");
+        replay(frames, Math.max(1, iterations / 10)); // Warm up
+        System.out.println(replay(frames, iterations));
+    }
+}
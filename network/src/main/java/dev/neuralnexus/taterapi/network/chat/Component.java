@@ -18,14 +18,19 @@ import java.lang.invoke.MethodType;
 public final class Component {
     private static final Logger logger = Logger.create("TaterLibLite/Component");
 
+    /** Both adapted to (String)Object, so that they can be called with invokeExact */
     private static final MethodHandle newLiteral;
     private static final MethodHandle newTranslatable;
 
+    private static final int CONSTANTS_SIZE = 256;
+    private static final Constant[] CONSTANTS = new Constant[CONSTANTS_SIZE];
+
+    private record Constant(@NonNull String text, @NonNull Object component) {}
+
     @SuppressWarnings("unchecked")
     public static <T> @NonNull T literal(final @NonNull String text) {
         try {
-            // Can't invokeExact because of the duck typing
-            return (T) newLiteral.invoke(text);
+            return (T) (Object) newLiteral.invokeExact(text);
         } catch (final Throwable e) {
             throw new RuntimeException(e);
         }
@@ -34,43 +39,66 @@ public final class Component {
     @SuppressWarnings("unchecked")
     public static <T> @NonNull T translatable(final @NonNull String key) {
         try {
-            // Can't invokeExact here because of varargs constructor in older versions
-            return (T) newTranslatable.invoke(key);
+            return (T) (Object) newTranslatable.invokeExact(key);
         } catch (final Throwable e) {
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * Gets a literal component for fixed text, such as a kick or disconnect reason, reusing a
+     * recently created instance for the same text. The returned component is shared, so it must
+     * not be modified; use {@link #literal(String)} for one to style or append to.
+     *
+     * @param text the text
+     * @return the shared literal component
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> @NonNull T constant(final @NonNull String text) {
+        final int h = text.hashCode() * 0x9E3779B9;
+        final int slot = (h ^ h >>> 16) & CONSTANTS_SIZE - 1;
+        final Constant constant = CONSTANTS[slot];
+        if (constant != null && (constant.text == text || constant.text.equals(text))) {
+            return (T) constant.component;
+        }
+        final Object component = literal(text);
+        CONSTANTS[slot] = new Constant(text, component);
+        return (T) component;
+    }
+
     // spotless:off
     static {
         final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        final MethodType type = MethodType.methodType(Object.class, String.class);
         Class<?> clazz;
         Class<?> rType;
+        MethodHandle handle;
         try { // Component.literal(String)
             if (Constraint.noGreaterThan(MinecraftVersions.V8_9).result()) {
                 clazz = Class.forName("net.minecraft.util.ChatComponentText");
-                newLiteral = lookup.findConstructor(clazz, MethodType.methodType(void.class, String.class));
+                handle = lookup.findConstructor(clazz, MethodType.methodType(void.class, String.class));
             } else if (Constraint.range(MinecraftVersions.V9, MinecraftVersions.V13_2).result()) {
                 clazz = Class.forName("net.minecraft.util.text.TextComponentString");
-                newLiteral = lookup.findConstructor(clazz, MethodType.methodType(void.class, String.class));
+                handle = lookup.findConstructor(clazz, MethodType.methodType(void.class, String.class));
             } else if (Constraint.range(MinecraftVersions.V14, MinecraftVersions.V16_5).result()) {
                 clazz = Class.forName("net.minecraft.util.text.StringTextComponent");
-                newLiteral = lookup.findConstructor(clazz, MethodType.methodType(void.class, String.class));
+                handle = lookup.findConstructor(clazz, MethodType.methodType(void.class, String.class));
             } else if (Constraint.range(MinecraftVersions.V17, MinecraftVersions.V18_2).result()) {
                 clazz = Class.forName("net.minecraft.network.chat.TextComponent");
-                newLiteral = lookup.findConstructor(clazz, MethodType.methodType(void.class, String.class));
+                handle = lookup.findConstructor(clazz, MethodType.methodType(void.class, String.class));
             } else if (Constraint.range(MinecraftVersions.V19, MinecraftVersions.V20_4)
                     .mappings(Mappings.SEARGE).result()) {
                 clazz = Class.forName("net.minecraft.network.chat.Component");
                 rType = Class.forName("net.minecraft.network.chat.MutableComponent");
-                newLiteral = lookup.findStatic(clazz, "m_237113_", MethodType.methodType(rType, String.class));
+                handle = lookup.findStatic(clazz, "m_237113_", MethodType.methodType(rType, String.class));
             } else if (Constraint.noLessThan(MinecraftVersions.V19).mappings(Mappings.MOJANG).result()) {
                 clazz = Class.forName("net.minecraft.network.chat.Component");
                 rType = Class.forName("net.minecraft.network.chat.MutableComponent");
-                newLiteral = lookup.findStatic(clazz, "literal", MethodType.methodType(rType, String.class));
+                handle = lookup.findStatic(clazz, "literal", MethodType.methodType(rType, String.class));
             } else {
                 throw new RuntimeException("No matching version for Component.literal");
             }
+            newLiteral = handle.asType(type);
         } catch (final ClassNotFoundException | IllegalAccessException | NoSuchMethodException e) {
             logger.error("Failed to initialize Component.literal function", e);
             throw new RuntimeException(e);
@@ -79,27 +107,31 @@ public final class Component {
         try { // Component.translatable(String)
             if (Constraint.noGreaterThan(MinecraftVersions.V8_9).result()) {
                 clazz = Class.forName("net.minecraft.util.ChatComponentTranslation");
-                newTranslatable = lookup.findConstructor(clazz, MethodType.methodType(void.class, String.class, Object[].class));
+                handle = lookup.findConstructor(clazz, MethodType.methodType(void.class, String.class, Object[].class));
             } else if (Constraint.range(MinecraftVersions.V9, MinecraftVersions.V13_2).result()) {
                 clazz = Class.forName("net.minecraft.util.text.TextComponentTranslation");
-                newTranslatable = lookup.findConstructor(clazz, MethodType.methodType(void.class, String.class, Object[].class));
+                handle = lookup.findConstructor(clazz, MethodType.methodType(void.class, String.class, Object[].class));
             } else if (Constraint.range(MinecraftVersions.V14, MinecraftVersions.V16_5).result()) {
                 clazz = Class.forName("net.minecraft.util.text.TranslationTextComponent");
-                newTranslatable = lookup.findConstructor(clazz, MethodType.methodType(void.class, String.class, Object[].class));
+                handle = lookup.findConstructor(clazz, MethodType.methodType(void.class, String.class, Object[].class));
             } else if (Constraint.range(MinecraftVersions.V17, MinecraftVersions.V18_2).result()) {
                 clazz = Class.forName("net.minecraft.network.chat.TranslatableComponent");
-                newTranslatable = lookup.findConstructor(clazz, MethodType.methodType(void.class, String.class));
+                handle = lookup.findConstructor(clazz, MethodType.methodType(void.class, String.class));
             } else if (Constraint.range(MinecraftVersions.V19, MinecraftVersions.V20_4).mappings(Mappings.SEARGE).result()) {
                 clazz = Class.forName("net.minecraft.network.chat.Component");
                 rType = Class.forName("net.minecraft.network.chat.MutableComponent");
-                newTranslatable = lookup.findStatic(clazz, "m_237115_", MethodType.methodType(rType, String.class));
+                handle = lookup.findStatic(clazz, "m_237115_", MethodType.methodType(rType, String.class));
             } else if (Constraint.noLessThan(MinecraftVersions.V19).mappings(Mappings.MOJANG).result()) {
                 clazz = Class.forName("net.minecraft.network.chat.Component");
                 rType = Class.forName("net.minecraft.network.chat.MutableComponent");
-                newTranslatable = lookup.findStatic(clazz, "translatable", MethodType.methodType(rType, String.class));
+                handle = lookup.findStatic(clazz, "translatable", MethodType.methodType(rType, String.class));
             } else {
                 throw new RuntimeException("No matching version for Component.translatable");
             }
+            if (handle.type().parameterCount() == 2) { // Bind the empty format args of the varargs constructor
+                handle = MethodHandles.insertArguments(handle, 1, (Object) new Object[0]);
+            }
+            newTranslatable = handle.asType(type);
         } catch (final ClassNotFoundException | IllegalAccessException | NoSuchMethodException e) {
             logger.error("Failed to initialize Component.translatable function", e);
             throw new RuntimeException(e);
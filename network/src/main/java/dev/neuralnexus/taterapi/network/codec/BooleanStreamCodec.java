@@ -0,0 +1,23 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network.codec;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * {@link StreamCodec} for booleans, without boxing. {@link #boxed()} adapts it where a {@link
+ * StreamCodec} is expected.
+ */
+public interface BooleanStreamCodec<B> extends BooleanStreamEncoder<B>, BooleanStreamDecoder<B> {
+    static <B> @NonNull BooleanStreamCodec<B> of(
+            final @NonNull BooleanStreamEncoder<B> encoder,
+            final @NonNull BooleanStreamDecoder<B> decoder) {
+        return new ByteBufCodecs.BooleanCodec<>(encoder, decoder);
+    }
+
+    default @NonNull StreamCodec<B, Boolean> boxed() {
+        return StreamCodec.of(this::encode, this::decode);
+    }
+}
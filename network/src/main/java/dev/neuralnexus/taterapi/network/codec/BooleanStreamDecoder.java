@@ -0,0 +1,13 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network.codec;
+
+import org.jspecify.annotations.NonNull;
+
+/** {@link StreamDecoder} for booleans, without boxing */
+@FunctionalInterface
+public interface BooleanStreamDecoder<I> {
+    boolean decode(final @NonNull I input);
+}
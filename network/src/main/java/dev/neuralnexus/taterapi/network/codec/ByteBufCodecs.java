@@ -0,0 +1,310 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network.codec;
+
+import dev.neuralnexus.taterapi.network.FriendlyByteBuf;
+import dev.neuralnexus.taterapi.network.VarLong;
+
+import io.netty.handler.codec.DecoderException;
+import io.netty.handler.codec.EncoderException;
+
+import org.jspecify.annotations.NonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.RandomAccess;
+
+/**
+ * Codecs for primitives and combinators for optionals, lists and maps. <br>
+ * Each combinator is a small record rather than a lambda, so the codecs it wraps are final fields
+ * the JIT can trust, and the int and long variants never box. For records, see {@link
+ * RecordCodecBuilder}.
+ */
+public final class ByteBufCodecs {
+    public static final BooleanStreamCodec<FriendlyByteBuf> BOOL =
+            BooleanStreamCodec.of(FriendlyByteBuf::writeBoolean, FriendlyByteBuf::readBoolean);
+    public static final IntStreamCodec<FriendlyByteBuf> INT =
+            IntStreamCodec.of(FriendlyByteBuf::writeInt, FriendlyByteBuf::readInt);
+    public static final IntStreamCodec<FriendlyByteBuf> VAR_INT =
+            IntStreamCodec.of(FriendlyByteBuf::writeVarInt, FriendlyByteBuf::readVarInt);
+    public static final LongStreamCodec<FriendlyByteBuf> LONG =
+            LongStreamCodec.of(FriendlyByteBuf::writeLong, FriendlyByteBuf::readLong);
+    public static final LongStreamCodec<FriendlyByteBuf> VAR_LONG =
+            LongStreamCodec.of(VarLong::write, VarLong::read);
+    public static final StreamCodec<FriendlyByteBuf, String> STRING_UTF8 =
+            stringUtf8(FriendlyByteBuf.MAX_STRING_LENGTH);
+
+    private ByteBufCodecs() {}
+
+    public static @NonNull StreamCodec<FriendlyByteBuf, String> stringUtf8(final int maxLength) {
+        return StreamCodec.of(
+                (output, value) -> output.writeUtf(value, maxLength),
+                input -> input.readUtf(maxLength));
+    }
+
+    /** Prefixes the value with a boolean, true when present */
+    public static <T> @NonNull StreamCodec<FriendlyByteBuf, Optional<T>> optional(
+            final @NonNull StreamCodec<? super FriendlyByteBuf, T> codec) {
+        return new OptionalCodec<>(codec);
+    }
+
+    public static @NonNull StreamCodec<FriendlyByteBuf, OptionalInt> optionalInt(
+            final @NonNull IntStreamCodec<? super FriendlyByteBuf> codec) {
+        return new OptionalIntCodec(codec);
+    }
+
+    public static @NonNull StreamCodec<FriendlyByteBuf, OptionalLong> optionalLong(
+            final @NonNull LongStreamCodec<? super FriendlyByteBuf> codec) {
+        return new OptionalLongCodec(codec);
+    }
+
+    /** Prefixes the elements with their count as a VarInt, which may not exceed maxSize */
+    public static <T> @NonNull StreamCodec<FriendlyByteBuf, List<T>> list(
+            final @NonNull StreamCodec<? super FriendlyByteBuf, T> codec, final int maxSize) {
+        return new ListCodec<>(codec, maxSize);
+    }
+
+    public static @NonNull StreamCodec<FriendlyByteBuf, int[]> intArray(
+            final @NonNull IntStreamCodec<? super FriendlyByteBuf> codec, final int maxSize) {
+        return new IntArrayCodec(codec, maxSize);
+    }
+
+    public static @NonNull StreamCodec<FriendlyByteBuf, long[]> longArray(
+            final @NonNull LongStreamCodec<? super FriendlyByteBuf> codec, final int maxSize) {
+        return new LongArrayCodec(codec, maxSize);
+    }
+
+    /** Prefixes the entries with their count as a VarInt, each entry being a key then a value */
+    public static <K, V> @NonNull StreamCodec<FriendlyByteBuf, Map<K, V>> mapOf(
+            final @NonNull StreamCodec<? super FriendlyByteBuf, K> keyCodec,
+            final @NonNull StreamCodec<? super FriendlyByteBuf, V> valueCodec,
+            final int maxSize) {
+        return new MapCodec<>(keyCodec, valueCodec, maxSize);
+    }
+
+    private static int readCount(final @NonNull FriendlyByteBuf input, final int maxSize) {
+        final int count = input.readVarInt();
+        if (count < 0 || count > maxSize) {
+            throw new DecoderException(count + " elements exceeds the limit of " + maxSize);
+        }
+        return count;
+    }
+
+    /** Elements of fixed or VarInt width take at least a byte each, so a count can be verified */
+    private static int readArrayCount(final @NonNull FriendlyByteBuf input, final int maxSize) {
+        final int count = readCount(input, maxSize);
+        if (count > input.readableBytes()) {
+            throw new DecoderException(
+                    count + " elements but only " + input.readableBytes() + " bytes remaining");
+        }
+        return count;
+    }
+
+    private static void writeCount(
+            final @NonNull FriendlyByteBuf output, final int count, final int maxSize) {
+        if (count > maxSize) {
+            throw new EncoderException(count + " elements exceeds the limit of " + maxSize);
+        }
+        output.writeVarInt(count);
+    }
+
+    record IntCodec<B>(@NonNull IntStreamEncoder<B> encoder, @NonNull IntStreamDecoder<B> decoder)
+            implements IntStreamCodec<B> {
+        @Override
+        public void encode(final @NonNull B output, final int value) {
+            this.encoder.encode(output, value);
+        }
+
+        @Override
+        public int decode(final @NonNull B input) {
+            return this.decoder.decode(input);
+        }
+    }
+
+    record LongCodec<B>(
+            @NonNull LongStreamEncoder<B> encoder, @NonNull LongStreamDecoder<B> decoder)
+            implements LongStreamCodec<B> {
+        @Override
+        public void encode(final @NonNull B output, final long value) {
+            this.encoder.encode(output, value);
+        }
+
+        @Override
+        public long decode(final @NonNull B input) {
+            return this.decoder.decode(input);
+        }
+    }
+
+    record BooleanCodec<B>(
+            @NonNull BooleanStreamEncoder<B> encoder, @NonNull BooleanStreamDecoder<B> decoder)
+            implements BooleanStreamCodec<B> {
+        @Override
+        public void encode(final @NonNull B output, final boolean value) {
+            this.encoder.encode(output, value);
+        }
+
+        @Override
+        public boolean decode(final @NonNull B input) {
+            return this.decoder.decode(input);
+        }
+    }
+
+    private record OptionalCodec<T>(@NonNull StreamCodec<? super FriendlyByteBuf, T> codec)
+            implements StreamCodec<FriendlyByteBuf, Optional<T>> {
+        @Override
+        public @NonNull Optional<T> decode(final @NonNull FriendlyByteBuf input) {
+            return input.readBoolean() ? Optional.of(this.codec.decode(input)) : Optional.empty();
+        }
+
+        @Override
+        public void encode(
+                final @NonNull FriendlyByteBuf output, final @NonNull Optional<T> value) {
+            output.writeBoolean(value.isPresent());
+            if (value.isPresent()) {
+                this.codec.encode(output, value.get());
+            }
+        }
+    }
+
+    private record OptionalIntCodec(@NonNull IntStreamCodec<? super FriendlyByteBuf> codec)
+            implements StreamCodec<FriendlyByteBuf, OptionalInt> {
+        @Override
+        public @NonNull OptionalInt decode(final @NonNull FriendlyByteBuf input) {
+            return input.readBoolean()
+                    ? OptionalInt.of(this.codec.decode(input))
+                    : OptionalInt.empty();
+        }
+
+        @Override
+        public void encode(
+                final @NonNull FriendlyByteBuf output, final @NonNull OptionalInt value) {
+            output.writeBoolean(value.isPresent());
+            if (value.isPresent()) {
+                this.codec.encode(output, value.getAsInt());
+            }
+        }
+    }
+
+    private record OptionalLongCodec(@NonNull LongStreamCodec<? super FriendlyByteBuf> codec)
+            implements StreamCodec<FriendlyByteBuf, OptionalLong> {
+        @Override
+        public @NonNull OptionalLong decode(final @NonNull FriendlyByteBuf input) {
+            return input.readBoolean()
+                    ? OptionalLong.of(this.codec.decode(input))
+                    : OptionalLong.empty();
+        }
+
+        @Override
+        public void encode(
+                final @NonNull FriendlyByteBuf output, final @NonNull OptionalLong value) {
+            output.writeBoolean(value.isPresent());
+            if (value.isPresent()) {
+                this.codec.encode(output, value.getAsLong());
+            }
+        }
+    }
+
+    private record ListCodec<T>(@NonNull StreamCodec<? super FriendlyByteBuf, T> codec, int maxSize)
+            implements StreamCodec<FriendlyByteBuf, List<T>> {
+        @Override
+        public @NonNull List<T> decode(final @NonNull FriendlyByteBuf input) {
+            final int count = readCount(input, this.maxSize);
+            // Don't trust the count with a large allocation before the elements are there
+            final List<T> list = new ArrayList<>(Math.min(count, input.readableBytes()));
+            for (int i = 0; i < count; i++) {
+                list.add(this.codec.decode(input));
+            }
+            return list;
+        }
+
+        @Override
+        public void encode(final @NonNull FriendlyByteBuf output, final @NonNull List<T> value) {
+            final int count = value.size();
+            writeCount(output, count, this.maxSize);
+            if (value instanceof RandomAccess) {
+                for (int i = 0; i < count; i++) {
+                    this.codec.encode(output, value.get(i));
+                }
+            } else {
+                for (final T element : value) {
+                    this.codec.encode(output, element);
+                }
+            }
+        }
+    }
+
+    private record IntArrayCodec(
+            @NonNull IntStreamCodec<? super FriendlyByteBuf> codec, int maxSize)
+            implements StreamCodec<FriendlyByteBuf, int[]> {
+        @Override
+        public int @NonNull [] decode(final @NonNull FriendlyByteBuf input) {
+            final int[] array = new int[readArrayCount(input, this.maxSize)];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = this.codec.decode(input);
+            }
+            return array;
+        }
+
+        @Override
+        public void encode(final @NonNull FriendlyByteBuf output, final int @NonNull [] value) {
+            writeCount(output, value.length, this.maxSize);
+            for (final int element : value) {
+                this.codec.encode(output, element);
+            }
+        }
+    }
+
+    private record LongArrayCodec(
+            @NonNull LongStreamCodec<? super FriendlyByteBuf> codec, int maxSize)
+            implements StreamCodec<FriendlyByteBuf, long[]> {
+        @Override
+        public long @NonNull [] decode(final @NonNull FriendlyByteBuf input) {
+            final long[] array = new long[readArrayCount(input, this.maxSize)];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = this.codec.decode(input);
+            }
+            return array;
+        }
+
+        @Override
+        public void encode(final @NonNull FriendlyByteBuf output, final long @NonNull [] value) {
+            writeCount(output, value.length, this.maxSize);
+            for (final long element : value) {
+                this.codec.encode(output, element);
+            }
+        }
+    }
+
+    private record MapCodec<K, V>(
+            @NonNull StreamCodec<? super FriendlyByteBuf, K> keyCodec,
+            @NonNull StreamCodec<? super FriendlyByteBuf, V> valueCodec,
+            int maxSize)
+            implements StreamCodec<FriendlyByteBuf, Map<K, V>> {
+        @Override
+        public @NonNull Map<K, V> decode(final @NonNull FriendlyByteBuf input) {
+            final int count = readCount(input, this.maxSize);
+            final Map<K, V> map =
+                    new HashMap<>((int) (Math.min(count, input.readableBytes()) / 0.75F) + 1);
+            for (int i = 0; i < count; i++) {
+                map.put(this.keyCodec.decode(input), this.valueCodec.decode(input));
+            }
+            return map;
+        }
+
+        @Override
+        public void encode(final @NonNull FriendlyByteBuf output, final @NonNull Map<K, V> value) {
+            writeCount(output, value.size(), this.maxSize);
+            for (final Map.Entry<K, V> entry : value.entrySet()) {
+                this.keyCodec.encode(output, entry.getKey());
+                this.valueCodec.encode(output, entry.getValue());
+            }
+        }
+    }
+}
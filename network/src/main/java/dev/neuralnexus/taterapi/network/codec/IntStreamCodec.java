@@ -0,0 +1,23 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network.codec;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * {@link StreamCodec} for ints, without boxing. {@link #boxed()} adapts it where a {@link
+ * StreamCodec} is expected.
+ */
+public interface IntStreamCodec<B> extends IntStreamEncoder<B>, IntStreamDecoder<B> {
+    static <B> @NonNull IntStreamCodec<B> of(
+            final @NonNull IntStreamEncoder<B> encoder,
+            final @NonNull IntStreamDecoder<B> decoder) {
+        return new ByteBufCodecs.IntCodec<>(encoder, decoder);
+    }
+
+    default @NonNull StreamCodec<B, Integer> boxed() {
+        return StreamCodec.of(this::encode, this::decode);
+    }
+}
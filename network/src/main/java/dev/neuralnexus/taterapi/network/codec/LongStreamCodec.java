@@ -0,0 +1,23 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network.codec;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * {@link StreamCodec} for longs, without boxing. {@link #boxed()} adapts it where a {@link
+ * StreamCodec} is expected.
+ */
+public interface LongStreamCodec<B> extends LongStreamEncoder<B>, LongStreamDecoder<B> {
+    static <B> @NonNull LongStreamCodec<B> of(
+            final @NonNull LongStreamEncoder<B> encoder,
+            final @NonNull LongStreamDecoder<B> decoder) {
+        return new ByteBufCodecs.LongCodec<>(encoder, decoder);
+    }
+
+    default @NonNull StreamCodec<B, Long> boxed() {
+        return StreamCodec.of(this::encode, this::decode);
+    }
+}
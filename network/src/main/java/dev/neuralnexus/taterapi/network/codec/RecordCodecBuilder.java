@@ -0,0 +1,373 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network.codec;
+
+import io.netty.handler.codec.DecoderException;
+import io.netty.handler.codec.EncoderException;
+
+import org.jspecify.annotations.NonNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Derives a {@link StreamCodec} for a record from a codec for each of its components, given in
+ * declaration order. The components are the canonical constructor's parameters, whose names the
+ * compiler records for every record, so only reflection available on Java 8 is needed. <br>
+ * The component codecs, accessors and canonical constructor are composed into a single method
+ * handle per direction, with no per-component loop or wrapper in between. The handles are kept in a
+ * record, whose final fields the JIT trusts, so a codec held in a static final field is inlined as
+ * a whole. <br>
+ * Anywhere else, e.g. in an instance field, the handles aren't constants and every call goes
+ * through them out of line, which {@code RecordCodecBenchmark} measures at roughly a quarter slower
+ * than a hand-written codec. Keep generated codecs in static finals, and hand-write the codecs of
+ * the hottest packets.
+ *
+ * @param <B> the buffer type
+ * @param <R> the record type
+ */
+public final class RecordCodecBuilder<B, R extends Record> {
+    private static final MethodHandle ENCODE;
+    private static final MethodHandle DECODE;
+    private static final MethodHandle ENCODE_INT;
+    private static final MethodHandle DECODE_INT;
+    private static final MethodHandle ENCODE_LONG;
+    private static final MethodHandle DECODE_LONG;
+    private static final MethodHandle ENCODE_BOOLEAN;
+    private static final MethodHandle DECODE_BOOLEAN;
+
+    static {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            ENCODE =
+                    lookup.findVirtual(
+                            StreamEncoder.class,
+                            "encode",
+                            MethodType.methodType(void.class, Object.class, Object.class));
+            DECODE =
+                    lookup.findVirtual(
+                            StreamDecoder.class,
+                            "decode",
+                            MethodType.methodType(Object.class, Object.class));
+            ENCODE_INT =
+                    lookup.findVirtual(
+                            IntStreamEncoder.class,
+                            "encode",
+                            MethodType.methodType(void.class, Object.class, int.class));
+            DECODE_INT =
+                    lookup.findVirtual(
+                            IntStreamDecoder.class,
+                            "decode",
+                            MethodType.methodType(int.class, Object.class));
+            ENCODE_LONG =
+                    lookup.findVirtual(
+                            LongStreamEncoder.class,
+                            "encode",
+                            MethodType.methodType(void.class, Object.class, long.class));
+            DECODE_LONG =
+                    lookup.findVirtual(
+                            LongStreamDecoder.class,
+                            "decode",
+                            MethodType.methodType(long.class, Object.class));
+            ENCODE_BOOLEAN =
+                    lookup.findVirtual(
+                            BooleanStreamEncoder.class,
+                            "encode",
+                            MethodType.methodType(void.class, Object.class, boolean.class));
+            DECODE_BOOLEAN =
+                    lookup.findVirtual(
+                            BooleanStreamDecoder.class,
+                            "decode",
+                            MethodType.methodType(boolean.class, Object.class));
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final MethodHandles.Lookup lookup;
+    private final Class<B> buffer;
+    private final Class<R> type;
+    private final Constructor<R> constructor;
+    private final Parameter[] components;
+    private final List<MethodHandle> encoders = new ArrayList<>();
+    private final List<MethodHandle> decoders = new ArrayList<>();
+
+    private RecordCodecBuilder(
+            final MethodHandles.@NonNull Lookup lookup,
+            final @NonNull Class<B> buffer,
+            final @NonNull Class<R> type) {
+        this.lookup = lookup;
+        this.buffer = buffer;
+        this.type = type;
+        this.constructor = canonicalConstructor(type);
+        this.components = this.constructor.getParameters();
+    }
+
+    /** Finds the constructor whose parameters are named and typed like the fields, in order */
+    @SuppressWarnings("unchecked")
+    private static <R> @NonNull Constructor<R> canonicalConstructor(final @NonNull Class<R> type) {
+        final List<Field> fields = new ArrayList<>();
+        for (final Field field : type.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                fields.add(field);
+            }
+        }
+        search:
+        for (final Constructor<?> constructor : type.getDeclaredConstructors()) {
+            final Parameter[] parameters = constructor.getParameters();
+            if (parameters.length != fields.size()) {
+                continue;
+            }
+            for (int i = 0; i < parameters.length; i++) {
+                final Parameter parameter = parameters[i];
+                final Field field = fields.get(i);
+                if (!parameter.isNamePresent()
+                        || !parameter.getName().equals(field.getName())
+                        || parameter.getType() != field.getType()) {
+                    continue search;
+                }
+            }
+            return (Constructor<R>) constructor;
+        }
+        throw new IllegalArgumentException(
+                "No canonical constructor found for " + type.getSimpleName());
+    }
+
+    /**
+     * Starts a codec for a record.
+     *
+     * @param lookup a lookup with access to the record, usually {@link MethodHandles#lookup()} from
+     *     within it
+     * @param buffer the buffer type
+     * @param type the record type
+     * @return the builder
+     * @param <B> the buffer type
+     * @param <R> the record type
+     */
+    public static <B, R extends Record> @NonNull RecordCodecBuilder<B, R> builder(
+            final MethodHandles.@NonNull Lookup lookup,
+            final @NonNull Class<B> buffer,
+            final @NonNull Class<R> type) {
+        return new RecordCodecBuilder<>(lookup, buffer, type);
+    }
+
+    /**
+     * Adds the codec for the next component.
+     *
+     * @param codec the component codec
+     * @return this builder
+     */
+    public <T> @NonNull RecordCodecBuilder<B, R> add(
+            final @NonNull StreamCodec<? super B, T> codec) {
+        return this.add(codec, codec);
+    }
+
+    /**
+     * Adds the encoder and decoder for the next component.
+     *
+     * @param encoder the component encoder
+     * @param decoder the component decoder
+     * @return this builder
+     */
+    public <T> @NonNull RecordCodecBuilder<B, R> add(
+            final @NonNull StreamEncoder<? super B, T> encoder,
+            final @NonNull StreamDecoder<? super B, T> decoder) {
+        return this.add(ENCODE.bindTo(encoder), DECODE.bindTo(decoder));
+    }
+
+    /**
+     * Adds the encoder and decoder for the next component, an int, without boxing it.
+     *
+     * @param encoder the component encoder
+     * @param decoder the component decoder
+     * @return this builder
+     */
+    public @NonNull RecordCodecBuilder<B, R> addInt(
+            final @NonNull IntStreamEncoder<? super B> encoder,
+            final @NonNull IntStreamDecoder<? super B> decoder) {
+        return this.add(ENCODE_INT.bindTo(encoder), DECODE_INT.bindTo(decoder));
+    }
+
+    /**
+     * Adds the codec for the next component, an int, without boxing it.
+     *
+     * @param codec the component codec
+     * @return this builder
+     */
+    public @NonNull RecordCodecBuilder<B, R> addInt(
+            final @NonNull IntStreamCodec<? super B> codec) {
+        return this.addInt(codec, codec);
+    }
+
+    /**
+     * Adds the encoder and decoder for the next component, a long, without boxing it.
+     *
+     * @param encoder the component encoder
+     * @param decoder the component decoder
+     * @return this builder
+     */
+    public @NonNull RecordCodecBuilder<B, R> addLong(
+            final @NonNull LongStreamEncoder<? super B> encoder,
+            final @NonNull LongStreamDecoder<? super B> decoder) {
+        return this.add(ENCODE_LONG.bindTo(encoder), DECODE_LONG.bindTo(decoder));
+    }
+
+    /**
+     * Adds the codec for the next component, a long, without boxing it.
+     *
+     * @param codec the component codec
+     * @return this builder
+     */
+    public @NonNull RecordCodecBuilder<B, R> addLong(
+            final @NonNull LongStreamCodec<? super B> codec) {
+        return this.addLong(codec, codec);
+    }
+
+    /**
+     * Adds the encoder and decoder for the next component, a boolean, without boxing it.
+     *
+     * @param encoder the component encoder
+     * @param decoder the component decoder
+     * @return this builder
+     */
+    public @NonNull RecordCodecBuilder<B, R> addBoolean(
+            final @NonNull BooleanStreamEncoder<? super B> encoder,
+            final @NonNull BooleanStreamDecoder<? super B> decoder) {
+        return this.add(ENCODE_BOOLEAN.bindTo(encoder), DECODE_BOOLEAN.bindTo(decoder));
+    }
+
+    /**
+     * Adds the codec for the next component, a boolean, without boxing it.
+     *
+     * @param codec the component codec
+     * @return this builder
+     */
+    public @NonNull RecordCodecBuilder<B, R> addBoolean(
+            final @NonNull BooleanStreamCodec<? super B> codec) {
+        return this.addBoolean(codec, codec);
+    }
+
+    private @NonNull RecordCodecBuilder<B, R> add(
+            final @NonNull MethodHandle encoder, final @NonNull MethodHandle decoder) {
+        final int index = this.encoders.size();
+        if (index == this.components.length) {
+            throw new IllegalStateException(
+                    this.type.getSimpleName() + " only has " + index + " components");
+        }
+        final Parameter component = this.components[index];
+        final Class<?> componentType = component.getType();
+        final MethodHandle accessor;
+        try {
+            accessor =
+                    this.lookup.findVirtual(
+                            this.type, component.getName(), MethodType.methodType(componentType));
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalArgumentException(
+                    "No access to " + this.type.getSimpleName() + "." + component.getName(), e);
+        }
+        // (B, R)void and (B)T, converting between the codec's erased types and the component's
+        final MethodHandle encode =
+                encoder.asType(MethodType.methodType(void.class, this.buffer, componentType));
+        this.encoders.add(MethodHandles.filterArguments(encode, 1, accessor));
+        this.decoders.add(decoder.asType(MethodType.methodType(componentType, this.buffer)));
+        return this;
+    }
+
+    /**
+     * Builds the codec.
+     *
+     * @return the codec
+     * @throws IllegalStateException if not every component has a codec
+     */
+    public @NonNull StreamCodec<B, R> build() {
+        final int count = this.components.length;
+        if (this.encoders.size() != count) {
+            throw new IllegalStateException(
+                    "Missing codecs for "
+                            + (count - this.encoders.size())
+                            + " of "
+                            + this.type.getSimpleName()
+                            + "'s components");
+        }
+        final Class<?>[] types = this.constructor.getParameterTypes();
+        final MethodHandle constructor;
+        try {
+            constructor = this.lookup.unreflectConstructor(this.constructor);
+        } catch (final IllegalAccessException e) {
+            throw new IllegalArgumentException(
+                    "No access to " + this.type.getSimpleName() + "'s constructor", e);
+        }
+
+        // Each fold runs its combiner before the target, which fixes the order components are
+        // written and read in
+        MethodHandle encode =
+                MethodHandles.dropArguments(
+                        MethodHandles.constant(Object.class, null)
+                                .asType(MethodType.methodType(void.class)),
+                        0,
+                        this.buffer,
+                        this.type);
+        for (int i = count - 1; i >= 0; i--) {
+            encode = MethodHandles.foldArguments(encode, this.encoders.get(i));
+        }
+        // Starting from (B, T0..Tn-1)R, last component first, move Tk to the front and fold in its
+        // decoder, which takes B and leaves (B, T0..Tk-1)R
+        MethodHandle decode = MethodHandles.dropArguments(constructor, 0, this.buffer);
+        for (int k = count - 1; k >= 0; k--) {
+            final Class<?>[] parameters = new Class<?>[k + 2];
+            final int[] reorder = new int[k + 2];
+            parameters[0] = types[k];
+            parameters[1] = this.buffer;
+            reorder[0] = 1;
+            reorder[k + 1] = 0;
+            for (int j = 0; j < k; j++) {
+                parameters[j + 2] = types[j];
+                reorder[j + 1] = j + 2;
+            }
+            decode =
+                    MethodHandles.foldArguments(
+                            MethodHandles.permuteArguments(
+                                    decode, MethodType.methodType(this.type, parameters), reorder),
+                            this.decoders.get(k));
+        }
+        return new RecordStreamCodec<>(
+                encode.asType(MethodType.methodType(void.class, Object.class, Object.class)),
+                decode.asType(MethodType.methodType(Object.class, Object.class)));
+    }
+
+    private record RecordStreamCodec<B, R>(
+            @NonNull MethodHandle encoder, @NonNull MethodHandle decoder)
+            implements StreamCodec<B, R> {
+        @Override
+        public void encode(final @NonNull B output, final @NonNull R value) {
+            try {
+                this.encoder.invokeExact((Object) output, (Object) value);
+            } catch (final RuntimeException | Error e) {
+                throw e;
+            } catch (final Throwable t) {
+                throw new EncoderException(t);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public @NonNull R decode(final @NonNull B input) {
+            try {
+                return (R) (Object) this.decoder.invokeExact((Object) input);
+            } catch (final RuntimeException | Error e) {
+                throw e;
+            } catch (final Throwable t) {
+                throw new DecoderException(t);
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network.metrics;
+
+import org.jspecify.annotations.NonNull;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Log-linear histogram of durations in nanoseconds, in the style of HdrHistogram: each power of two
+ * is split into {@link #SUB_BUCKETS} linear buckets, so a recorded value is off by at most 25%.
+ * Covers every non-negative long in a fixed 248 buckets, so recording is a bucket index computation
+ * and an atomic increment.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BITS = 2;
+    public static final int SUB_BUCKETS = 1 << SUB_BITS;
+    static final int BUCKETS = (Long.SIZE - SUB_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+
+    /**
+     * @param nanos the duration to record, negative values are recorded as zero
+     */
+    public void record(final long nanos) {
+        final long value = Math.max(0, nanos);
+        this.counts.incrementAndGet(bucket(value));
+        this.total.add(value);
+    }
+
+    public @NonNull Snapshot snapshot() {
+        final long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = this.counts.get(i);
+        }
+        return new Snapshot(counts, this.total.sum());
+    }
+
+    void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            this.counts.set(i, 0);
+        }
+        this.total.reset();
+    }
+
+    static int bucket(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final int sub = (int) (value >>> exponent - SUB_BITS) & SUB_BUCKETS - 1;
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /** The highest value that is recorded into a bucket */
+    static long highestValue(final int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        final int exponent = bucket / SUB_BUCKETS + SUB_BITS - 1;
+        final long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << exponent - SUB_BITS;
+        return lowest + (1L << exponent - SUB_BITS) - 1;
+    }
+
+    /**
+     * A point-in-time copy of the histogram. Counts taken while other threads are recording may be
+     * slightly out of step with each other.
+     *
+     * @param counts the number of values recorded into each bucket
+     * @param totalNanos the sum of the recorded values
+     */
+    public record Snapshot(long @NonNull [] counts, long totalNanos) {
+        public long count() {
+            long count = 0;
+            for (final long bucket : this.counts) {
+                count += bucket;
+            }
+            return count;
+        }
+
+        public double mean() {
+            final long count = this.count();
+            return count == 0 ? 0 : (double) this.totalNanos / count;
+        }
+
+        /**
+         * Gets the value at a percentile, rounded up to the highest value of its bucket.
+         *
+         * @param percentile the percentile, from 0 to 100
+         * @return the value in nanoseconds, or zero if nothing was recorded
+         */
+        public long percentile(final double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("Percentile out of range: " + percentile);
+            }
+            final long count = this.count();
+            if (count == 0) {
+                return 0;
+            }
+            final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < this.counts.length; i++) {
+                seen += this.counts[i];
+                if (seen >= rank) {
+                    return highestValue(i);
+                }
+            }
+            return highestValue(this.counts.length - 1);
+        }
+
+        public long max() {
+            for (int i = this.counts.length - 1; i >= 0; i--) {
+                if (this.counts[i] != 0) {
+                    return highestValue(i);
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network.metrics;
+
+import dev.neuralnexus.taterapi.network.PayloadRegistry;
+import dev.neuralnexus.taterapi.network.protocol.PacketType;
+
+import org.jspecify.annotations.NonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * Per packet type and per payload id traffic counters, recorded by the packet and payload codecs.
+ * Disabled by default, in which case each codec call only pays for a volatile read. Pull the
+ * numbers with {@link #snapshot(Category)}.
+ */
+public final class NetworkMetrics {
+    /**
+     * Payload ids come off the wire, so only registered ones get their own entry, and each category
+     * tracks at most this many. The rest are counted together under {@link #OTHER}.
+     */
+    public static final int MAX_ENTRIES = 256;
+
+    public static final String OTHER = "<other>";
+
+    private static final Table[] TABLES = new Table[Category.values().length];
+    private static volatile boolean enabled;
+
+    static {
+        // Packet types always come from the packet registry
+        TABLES[Category.PACKET.ordinal()] = new Table(key -> true);
+        TABLES[Category.CUSTOM_PAYLOAD.ordinal()] =
+                new Table(key -> PayloadRegistry.getCustom((String) key) != null);
+        TABLES[Category.QUERY_PAYLOAD.ordinal()] =
+                new Table(key -> PayloadRegistry.getQuery((String) key) != null);
+    }
+
+    public enum Category {
+        /** Whole packets, keyed by packet type */
+        PACKET,
+        /** Custom payloads within custom payload packets, keyed by channel */
+        CUSTOM_PAYLOAD,
+        /** Login query payloads, keyed by channel */
+        QUERY_PAYLOAD
+    }
+
+    /**
+     * @param entries the stats of each tracked key
+     * @param other the stats of every other key
+     * @param size the number of entries created, or about to be
+     * @param known whether a key may get its own entry
+     */
+    private record Table(
+            @NonNull Map<Object, TrafficStats> entries,
+            @NonNull TrafficStats other,
+            @NonNull AtomicInteger size,
+            @NonNull Predicate<Object> known) {
+        Table(final @NonNull Predicate<Object> known) {
+            this(new ConcurrentHashMap<>(), new TrafficStats(OTHER), new AtomicInteger(), known);
+        }
+
+        @NonNull TrafficStats get(final @NonNull Object key) {
+            final TrafficStats stats = this.entries.get(key);
+            if (stats != null) {
+                return stats;
+            }
+            if (this.size.get() >= MAX_ENTRIES || !this.known.test(key)) {
+                return this.other;
+            }
+            // Slots are claimed inside the mapping function, so racing threads can't overshoot
+            final TrafficStats created =
+                    this.entries.computeIfAbsent(
+                            key,
+                            k ->
+                                    this.size.getAndIncrement() < MAX_ENTRIES
+                                            ? new TrafficStats(name(k))
+                                            : null);
+            return created != null ? created : this.other;
+        }
+
+        private static @NonNull String name(final @NonNull Object key) {
+            if (key instanceof PacketType<?> type) {
+                return type.flow().name() + "/" + type.id();
+            }
+            return key.toString();
+        }
+    }
+
+    private NetworkMetrics() {}
+
+    public static boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables recording. Recorded numbers are kept until {@link #reset()}.
+     *
+     * @param enabled whether to record
+     */
+    public static void enabled(final boolean enabled) {
+        NetworkMetrics.enabled = enabled;
+    }
+
+    public static @NonNull TrafficStats packet(final @NonNull PacketType<?> type) {
+        return TABLES[Category.PACKET.ordinal()].get(type);
+    }
+
+    public static @NonNull TrafficStats customPayload(final @NonNull String id) {
+        return TABLES[Category.CUSTOM_PAYLOAD.ordinal()].get(id);
+    }
+
+    public static @NonNull TrafficStats queryPayload(final @NonNull String id) {
+        return TABLES[Category.QUERY_PAYLOAD.ordinal()].get(id);
+    }
+
+    /**
+     * Takes a snapshot of a category, busiest first.
+     *
+     * @param category the category
+     * @return the stats of each packet type or payload id, sorted by total bytes descending
+     */
+    public static @NonNull List<TrafficStats.Snapshot> snapshot(final @NonNull Category category) {
+        final Table table = TABLES[category.ordinal()];
+        final List<TrafficStats.Snapshot> snapshots = new ArrayList<>(table.entries.size() + 1);
+        for (final TrafficStats stats : table.entries.values()) {
+            snapshots.add(stats.snapshot());
+        }
+        final TrafficStats.Snapshot other = table.other.snapshot();
+        if (other.messages() != 0) {
+            snapshots.add(other);
+        }
+        snapshots.sort(Comparator.comparingLong(TrafficStats.Snapshot::bytes).reversed());
+        return snapshots;
+    }
+
+    /** Drops every recorded number */
+    public static void reset() {
+        for (final Table table : TABLES) {
+            table.entries.clear();
+            table.size.set(0);
+            table.other.reset();
+        }
+    }
+}
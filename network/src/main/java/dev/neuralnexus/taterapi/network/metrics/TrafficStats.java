@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network.metrics;
+
+import org.jspecify.annotations.NonNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Message and byte counts, along with codec latencies, for a single packet type or payload id.
+ * Counters are {@link LongAdder}s, so event loops recording the same id don't contend on one cache
+ * line.
+ */
+public final class TrafficStats {
+    private final @NonNull String name;
+    private final LongAdder decoded = new LongAdder();
+    private final LongAdder decodedBytes = new LongAdder();
+    private final LatencyHistogram decodeNanos = new LatencyHistogram();
+    private final LongAdder encoded = new LongAdder();
+    private final LongAdder encodedBytes = new LongAdder();
+    private final LatencyHistogram encodeNanos = new LatencyHistogram();
+
+    TrafficStats(final @NonNull String name) {
+        this.name = name;
+    }
+
+    public @NonNull String name() {
+        return this.name;
+    }
+
+    /**
+     * Records a decoded message.
+     *
+     * @param bytes the number of bytes read
+     * @param nanos how long decoding took
+     */
+    public void decoded(final int bytes, final long nanos) {
+        this.decoded.increment();
+        this.decodedBytes.add(bytes);
+        this.decodeNanos.record(nanos);
+    }
+
+    /**
+     * Records an encoded message.
+     *
+     * @param bytes the number of bytes written
+     * @param nanos how long encoding took
+     */
+    public void encoded(final int bytes, final long nanos) {
+        this.encoded.increment();
+        this.encodedBytes.add(bytes);
+        this.encodeNanos.record(nanos);
+    }
+
+    public @NonNull Snapshot snapshot() {
+        return new Snapshot(
+                this.name,
+                this.decoded.sum(),
+                this.decodedBytes.sum(),
+                this.decodeNanos.snapshot(),
+                this.encoded.sum(),
+                this.encodedBytes.sum(),
+                this.encodeNanos.snapshot());
+    }
+
+    void reset() {
+        this.decoded.reset();
+        this.decodedBytes.reset();
+        this.decodeNanos.reset();
+        this.encoded.reset();
+        this.encodedBytes.reset();
+        this.encodeNanos.reset();
+    }
+
+    /**
+     * @param name the packet type or payload id
+     * @param decoded the number of messages decoded
+     * @param decodedBytes the number of bytes decoded
+     * @param decodeNanos the decode latencies
+     * @param encoded the number of messages encoded
+     * @param encodedBytes the number of bytes encoded
+     * @param encodeNanos the encode latencies
+     */
+    public record Snapshot(
+            @NonNull String name,
+            long decoded,
+            long decodedBytes,
+            LatencyHistogram.@NonNull Snapshot decodeNanos,
+            long encoded,
+            long encodedBytes,
+            LatencyHistogram.@NonNull Snapshot encodeNanos) {
+        public long messages() {
+            return this.decoded + this.encoded;
+        }
+
+        public long bytes() {
+            return this.decodedBytes + this.encodedBytes;
+        }
+    }
+}
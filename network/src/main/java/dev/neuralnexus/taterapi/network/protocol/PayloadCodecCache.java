@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network.protocol;
+
+import dev.neuralnexus.taterapi.network.FriendlyByteBuf;
+import dev.neuralnexus.taterapi.network.PayloadRegistry;
+
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.function.Function;
+
+/**
+ * Caches the codec each payload identifier resolves to, so that dispatching a payload doesn't hit
+ * the registry or build a fallback codec every time. Entries are tagged with the {@link
+ * PayloadRegistry#version()} they were resolved against and are re-resolved once a custom or query
+ * payload registration changes. <br>
+ * Identifiers come off the wire, so the table is direct-mapped with {@link #SIZE} slots and a
+ * colliding miss replaces the slot, like {@code Utf8StringCache}. Slots hold immutable entries, so
+ * racing readers and writers at worst resolve an identifier twice. The encoded identifier is only
+ * built on the encode path.
+ *
+ * @param <C> the codec type
+ */
+public final class PayloadCodecCache<C> {
+    public static final int SIZE = 256;
+    private static final int MASK = SIZE - 1;
+
+    private final @Nullable Resolved<C> @NonNull [] table;
+    private final @NonNull Function<@NonNull String, @NonNull C> resolver;
+
+    /**
+     * @param resolver resolves an identifier to its codec, consulting the registry
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public PayloadCodecCache(final @NonNull Function<@NonNull String, @NonNull C> resolver) {
+        this.table = new Resolved[SIZE];
+        this.resolver = resolver;
+    }
+
+    /**
+     * Gets the codec for an identifier read off the wire.
+     *
+     * @param identifier the payload identifier
+     * @return the codec
+     */
+    public @NonNull C codec(final @NonNull String identifier) {
+        final int version = PayloadRegistry.version();
+        final int slot = slot(identifier);
+        final Resolved<C> cached = this.table[slot];
+        if (cached != null && cached.matches(identifier, version)) {
+            return cached.codec;
+        }
+        final C codec = this.resolver.apply(identifier);
+        this.table[slot] = new Resolved<>(identifier, codec, null, version);
+        return codec;
+    }
+
+    /**
+     * Gets the codec for an identifier being written, along with the identifier's encoded bytes.
+     *
+     * @param identifier the payload identifier
+     * @return the codec and encoded identifier
+     */
+    public @NonNull Resolved<C> encoded(final @NonNull String identifier) {
+        final int version = PayloadRegistry.version();
+        final int slot = slot(identifier);
+        final Resolved<C> cached = this.table[slot];
+        final boolean hit = cached != null && cached.matches(identifier, version);
+        if (hit && cached.encodedId != null) {
+            return cached;
+        }
+        final Resolved<C> resolved =
+                new Resolved<>(
+                        identifier,
+                        hit ? cached.codec : this.resolver.apply(identifier),
+                        encode(identifier),
+                        version);
+        this.table[slot] = resolved;
+        return resolved;
+    }
+
+    private static int slot(final @NonNull String identifier) {
+        final int h = identifier.hashCode();
+        return (h ^ h >>> 16) & MASK;
+    }
+
+    private static byte @NonNull [] encode(final @NonNull String identifier) {
+        return ByteBufUtil.getBytes(new FriendlyByteBuf(Unpooled.buffer()).writeUtf(identifier));
+    }
+
+    /**
+     * @param identifier the payload identifier
+     * @param codec the resolved codec
+     * @param encodedId the length-prefixed UTF-8 identifier, as written by {@link
+     *     FriendlyByteBuf#writeUtf(String)}, or null if it hasn't been encoded yet
+     * @param version the registry version this was resolved against
+     */
+    public record Resolved<C>(
+            @NonNull String identifier,
+            @NonNull C codec,
+            byte @Nullable [] encodedId,
+            int version) {
+        private boolean matches(final @NonNull String identifier, final int version) {
+            return this.version == version
+                    && (this.identifier == identifier || this.identifier.equals(identifier));
+        }
+    }
+}
@@ -9,13 +9,13 @@ import dev.neuralnexus.taterapi.network.PayloadRegistry;
 import dev.neuralnexus.taterapi.network.codec.StreamCodec;
 import dev.neuralnexus.taterapi.network.codec.StreamDecoder;
 import dev.neuralnexus.taterapi.network.codec.StreamMemberEncoder;
+import dev.neuralnexus.taterapi.network.metrics.NetworkMetrics;
 import dev.neuralnexus.taterapi.network.protocol.PacketFlow;
+import dev.neuralnexus.taterapi.network.protocol.PayloadCodecCache;
 import dev.neuralnexus.taterapi.network.protocol.PayloadType;
 
 import org.jspecify.annotations.NonNull;
 
-import java.util.Optional;
-
 public interface CustomPacketPayload {
     StreamCodec<@NonNull FriendlyByteBuf, @NonNull CustomPacketPayload> DEFAULT_CODEC =
             CustomPacketPayload.codec(CustomPacketPayload::codec);
@@ -49,11 +49,14 @@ public interface CustomPacketPayload {
     static <B extends FriendlyByteBuf> StreamCodec<B, CustomPacketPayload> codec(
             final CustomPacketPayload.FallbackProvider<B> fallbackprovider) {
         return new StreamCodec<>() {
+            private final PayloadCodecCache<StreamCodec<? super B, ? extends CustomPacketPayload>>
+                    codecs = new PayloadCodecCache<>(this::findCodec);
+
             private StreamCodec<? super B, ? extends CustomPacketPayload> findCodec(
                     final @NonNull String identifier) {
-                final Optional<StreamCodec<? super FriendlyByteBuf, ? extends CustomPacketPayload>>
-                        codec = PayloadRegistry.custom(identifier).map(Type::codec);
-                return codec.orElse(fallbackprovider.create(identifier));
+                final Type<? extends CustomPacketPayload> type =
+                        PayloadRegistry.getCustom(identifier);
+                return type != null ? type.codec() : fallbackprovider.create(identifier);
             }
 
             @SuppressWarnings("unchecked")
@@ -61,19 +64,39 @@ public interface CustomPacketPayload {
                     final @NonNull B buffer,
                     final @NonNull String id,
                     final @NonNull CustomPacketPayload payload) {
-                buffer.writeUtf(id);
-                final StreamCodec<B, T> codec = (StreamCodec<B, T>) this.findCodec(id);
+                final PayloadCodecCache.Resolved<
+                                StreamCodec<? super B, ? extends CustomPacketPayload>>
+                        resolved = this.codecs.encoded(id);
+                buffer.writeBytes(resolved.encodedId());
+                final StreamCodec<B, T> codec = (StreamCodec<B, T>) resolved.codec();
                 codec.encode(buffer, (T) payload);
             }
 
             public void encode(
                     final @NonNull B output, final @NonNull CustomPacketPayload payload) {
-                this.writeCap(output, payload.type().id(), payload);
+                final String id = payload.type().id();
+                if (!NetworkMetrics.enabled()) {
+                    this.writeCap(output, id, payload);
+                    return;
+                }
+                final int start = output.writerIndex();
+                final long time = System.nanoTime();
+                this.writeCap(output, id, payload);
+                NetworkMetrics.customPayload(id)
+                        .encoded(output.writerIndex() - start, System.nanoTime() - time);
             }
 
             public CustomPacketPayload decode(final @NonNull B input) {
-                final String id = input.readUtf();
-                return this.findCodec(id).decode(input);
+                if (!NetworkMetrics.enabled()) {
+                    return this.codecs.codec(input.readUtfInterned()).decode(input);
+                }
+                final int start = input.readerIndex();
+                final long time = System.nanoTime();
+                final String id = input.readUtfInterned();
+                final CustomPacketPayload payload = this.codecs.codec(id).decode(input);
+                NetworkMetrics.customPayload(id)
+                        .decoded(input.readerIndex() - start, System.nanoTime() - time);
+                return payload;
             }
         };
     }
@@ -119,7 +142,8 @@ public interface CustomPacketPayload {
                 final @NonNull String identifier);
     }
 
-    record Raw(@NonNull String id, @NonNull FriendlyByteBuf data) implements CustomPacketPayload {
+    record Raw(@NonNull String id, @NonNull FriendlyByteBuf data)
+            implements CustomPacketPayload, AutoCloseable {
         @Override
         public @NonNull Type<CustomPacketPayload> type() {
             return PayloadType.custom(CustomPacketPayload.class, this.id)
@@ -127,5 +151,11 @@ public interface CustomPacketPayload {
                     .codec(DEFAULT_CODEC)
                     .build();
         }
+
+        /** Releases the payload data. */
+        @Override
+        public void close() {
+            this.data.close();
+        }
     }
 }
@@ -0,0 +1,227 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network.protocol.login;
+
+import dev.neuralnexus.taterapi.network.FriendlyByteBuf;
+import dev.neuralnexus.taterapi.network.PayloadRegistry;
+import dev.neuralnexus.taterapi.network.codec.StreamCodec;
+import dev.neuralnexus.taterapi.network.protocol.login.custom.CustomQueryAnswerPayload;
+import dev.neuralnexus.taterapi.network.protocol.login.custom.CustomQueryPayload;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Tracks login queries sent as {@link ClientboundCustomQueryPacket}s until their {@link
+ * ServerboundCustomQueryAnswerPacket} arrives or they time out. <br>
+ * Transaction ids are allocated in increasing order and index a fixed ring of slots directly, so
+ * lookups neither box nor lock, and a slot is freed as soon as its query completes. An id whose
+ * slot is still held by a query from a full lap ago is skipped. Timeouts are enforced by {@link
+ * #sweep()}, one pass over the ring, rather than a timer task per query. <br>
+ * Answers are decoded with the type the {@link PayloadRegistry} holds for their transaction id
+ * before they reach the tracker, so ids that have a registered answer type are skipped too, and the
+ * answers to tracked queries arrive as {@link CustomQueryAnswerPayload.Raw} for the query's own
+ * codec. Register answer types with long-lived ids only, or ones outside the tracker's range.
+ */
+public final class CustomQueryTransactions {
+    /** The default limit on queries in flight at once */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private final long timeoutNanos;
+    private final int mask;
+    private final AtomicReferenceArray<Transaction> slots;
+    private final AtomicInteger nextId = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private record Transaction(
+            int id,
+            long deadline,
+            @Nullable StreamCodec<FriendlyByteBuf, ? extends CustomQueryAnswerPayload> codec,
+            @NonNull CompletableFuture<ServerboundCustomQueryAnswerPacket> future) {}
+
+    /**
+     * @param timeout how long to wait for an answer
+     */
+    public CustomQueryTransactions(final @NonNull Duration timeout) {
+        this(timeout, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param timeout how long to wait for an answer
+     * @param capacity the most queries in flight at once, rounded up to a power of two
+     */
+    public CustomQueryTransactions(final @NonNull Duration timeout, final int capacity) {
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Timeout must be positive: " + timeout);
+        }
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity out of range: " + capacity);
+        }
+        this.timeoutNanos = timeout.toNanos();
+        final int size = Integer.highestOneBit(capacity * 2 - 1);
+        this.mask = size - 1;
+        this.slots = new AtomicReferenceArray<>(size);
+    }
+
+    /**
+     * Sends a query whose answer is kept as a {@link CustomQueryAnswerPayload.Raw}.
+     *
+     * @param payload the query payload
+     * @param sender sends the query packet to the client
+     * @return a future completed with the answer, or exceptionally on timeout or cancellation
+     * @throws IllegalStateException if the tracker is full
+     */
+    public @NonNull CompletableFuture<ServerboundCustomQueryAnswerPacket> query(
+            final @NonNull CustomQueryPayload payload,
+            final @NonNull Consumer<? super ClientboundCustomQueryPacket> sender) {
+        return this.query(payload, null, sender);
+    }
+
+    /**
+     * Sends a query whose answer is decoded with the given codec, without registering the
+     * transaction id in the {@link PayloadRegistry}.
+     *
+     * @param payload the query payload
+     * @param codec decodes answers that arrive as {@link CustomQueryAnswerPayload.Raw}, or null to
+     *     keep them raw
+     * @param sender sends the query packet to the client
+     * @return a future completed with the answer, or exceptionally on timeout or cancellation
+     * @throws IllegalStateException if the tracker is full
+     */
+    public @NonNull CompletableFuture<ServerboundCustomQueryAnswerPacket> query(
+            final @NonNull CustomQueryPayload payload,
+            final @Nullable StreamCodec<FriendlyByteBuf, ? extends CustomQueryAnswerPayload> codec,
+            final @NonNull Consumer<? super ClientboundCustomQueryPacket> sender) {
+        if (this.pending.incrementAndGet() > this.mask + 1) {
+            this.pending.decrementAndGet();
+            throw new IllegalStateException("Too many login queries in flight: " + (this.mask + 1));
+        }
+        final CompletableFuture<ServerboundCustomQueryAnswerPacket> future =
+                new CompletableFuture<>();
+        final long deadline = System.nanoTime() + this.timeoutNanos;
+        // A free slot exists, since pending was reserved above
+        Transaction transaction = null;
+        while (transaction == null) {
+            // Non-negative, since the id goes over the wire as a VarInt
+            final int id = this.nextId.getAndIncrement() & Integer.MAX_VALUE;
+            if (PayloadRegistry.getAnswer(id) != null) {
+                continue;
+            }
+            final Transaction candidate = new Transaction(id, deadline, codec, future);
+            if (this.slots.compareAndSet(id & this.mask, null, candidate)) {
+                transaction = candidate;
+            }
+        }
+        try {
+            sender.accept(new ClientboundCustomQueryPacket(transaction.id, payload));
+        } catch (final RuntimeException e) {
+            if (this.remove(transaction)) {
+                future.completeExceptionally(e);
+            }
+        }
+        return future;
+    }
+
+    /**
+     * Completes the query an answer belongs to. A raw payload is released when decoded with the
+     * query's codec, otherwise it stays with the caller.
+     *
+     * @param answer the answer from the client
+     * @return true if the answer completed a pending query, false if it was unknown or had expired
+     */
+    public boolean handle(final @NonNull ServerboundCustomQueryAnswerPacket answer) {
+        final int id = answer.transactionId();
+        final Transaction transaction = this.slots.get(id & this.mask);
+        if (transaction == null || transaction.id != id || !this.remove(transaction)) {
+            return false;
+        }
+        if (transaction.codec != null
+                && answer.payload() instanceof CustomQueryAnswerPayload.Raw raw) {
+            try (raw) {
+                return transaction.future.complete(
+                        new ServerboundCustomQueryAnswerPacket(
+                                id, transaction.codec.decode(raw.data())));
+            } catch (final RuntimeException e) {
+                return transaction.future.completeExceptionally(e);
+            }
+        }
+        return transaction.future.complete(answer);
+    }
+
+    /**
+     * Fails every query whose deadline has passed with a {@link TimeoutException}, and frees the
+     * slots of queries whose futures were completed elsewhere, e.g. cancelled by the caller.
+     *
+     * @return the number of queries that timed out
+     */
+    public int sweep() {
+        final long now = System.nanoTime();
+        int expired = 0;
+        for (int i = 0; i <= this.mask; i++) {
+            final Transaction transaction = this.slots.get(i);
+            if (transaction == null
+                    || transaction.deadline - now > 0 && !transaction.future.isDone()) {
+                continue;
+            }
+            if (this.remove(transaction)
+                    && transaction.future.completeExceptionally(
+                            new TimeoutException("Login query " + transaction.id + " timed out"))) {
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * Sweeps on a timer, at a tenth of the timeout or every 10ms, whichever is longer.
+     *
+     * @param executor the executor to sweep on
+     * @return the scheduled sweeps, to cancel once the tracker is no longer needed
+     */
+    public @NonNull ScheduledFuture<?> scheduleSweeps(
+            final @NonNull ScheduledExecutorService executor) {
+        final long period = Math.max(this.timeoutNanos / 10, TimeUnit.MILLISECONDS.toNanos(10));
+        return executor.scheduleAtFixedRate(this::sweep, period, period, TimeUnit.NANOSECONDS);
+    }
+
+    /** Fails every pending query with a {@link CancellationException}. */
+    public void cancelAll() {
+        for (int i = 0; i <= this.mask; i++) {
+            final Transaction transaction = this.slots.get(i);
+            if (transaction != null && this.remove(transaction)) {
+                transaction.future.completeExceptionally(
+                        new CancellationException("Login queries cancelled"));
+            }
+        }
+    }
+
+    /**
+     * Gets the number of queries awaiting an answer.
+     *
+     * @return the pending query count
+     */
+    public int pending() {
+        return this.pending.get();
+    }
+
+    private boolean remove(final @NonNull Transaction transaction) {
+        if (this.slots.compareAndSet(transaction.id & this.mask, transaction, null)) {
+            this.pending.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+}
@@ -47,11 +47,9 @@ public interface CustomQueryAnswerPayload {
     static <B extends FriendlyByteBuf>
             StreamCodec<? super B, ? extends CustomQueryAnswerPayload> codec(
                     final int transactionId) {
-        final Optional<StreamCodec<? super FriendlyByteBuf, ? extends CustomQueryAnswerPayload>>
-                codec =
-                        PayloadRegistry.answer(transactionId)
-                                .map(CustomQueryAnswerPayload.Type::codec);
-        return codec.orElse(DEFAULT_CODEC);
+        final Type<? extends CustomQueryAnswerPayload> type =
+                PayloadRegistry.getAnswer(transactionId);
+        return type != null ? type.codec() : DEFAULT_CODEC;
     }
 
     interface Type<T extends CustomQueryAnswerPayload> extends PayloadType<T, Optional<Integer>> {
@@ -88,10 +86,16 @@ public interface CustomQueryAnswerPayload {
         }
     }
 
-    record Raw(@NonNull FriendlyByteBuf data) implements CustomQueryAnswerPayload {
+    record Raw(@NonNull FriendlyByteBuf data) implements CustomQueryAnswerPayload, AutoCloseable {
         @Override
         public @NonNull Type<CustomQueryAnswerPayload> type() {
             return PayloadType.answer(CustomQueryAnswerPayload.class, DEFAULT_CODEC);
         }
+
+        /** Releases the payload data. */
+        @Override
+        public void close() {
+            this.data.close();
+        }
     }
 }
@@ -9,13 +9,13 @@ import dev.neuralnexus.taterapi.network.PayloadRegistry;
 import dev.neuralnexus.taterapi.network.codec.StreamCodec;
 import dev.neuralnexus.taterapi.network.codec.StreamDecoder;
 import dev.neuralnexus.taterapi.network.codec.StreamMemberEncoder;
+import dev.neuralnexus.taterapi.network.metrics.NetworkMetrics;
 import dev.neuralnexus.taterapi.network.protocol.PacketFlow;
+import dev.neuralnexus.taterapi.network.protocol.PayloadCodecCache;
 import dev.neuralnexus.taterapi.network.protocol.PayloadType;
 
 import org.jspecify.annotations.NonNull;
 
-import java.util.Optional;
-
 public interface CustomQueryPayload {
     StreamCodec<@NonNull FriendlyByteBuf, @NonNull CustomQueryPayload> DEFAULT_CODEC =
             CustomQueryPayload.codec(CustomQueryPayload::codec);
@@ -49,13 +49,14 @@ public interface CustomQueryPayload {
     static <B extends FriendlyByteBuf> StreamCodec<B, CustomQueryPayload> codec(
             final CustomQueryPayload.FallbackProvider<B> fallbackprovider) {
         return new StreamCodec<>() {
+            private final PayloadCodecCache<StreamCodec<? super B, ? extends CustomQueryPayload>>
+                    codecs = new PayloadCodecCache<>(this::findCodec);
+
             private StreamCodec<? super B, ? extends CustomQueryPayload> findCodec(
                     final @NonNull String identifier) {
-                final Optional<StreamCodec<? super FriendlyByteBuf, ? extends CustomQueryPayload>>
-                        codec =
-                                PayloadRegistry.query(identifier)
-                                        .map(CustomQueryPayload.Type::codec);
-                return codec.orElse(fallbackprovider.create(identifier));
+                final Type<? extends CustomQueryPayload> type =
+                        PayloadRegistry.getQuery(identifier);
+                return type != null ? type.codec() : fallbackprovider.create(identifier);
             }
 
             @SuppressWarnings("unchecked")
@@ -63,18 +64,38 @@ public interface CustomQueryPayload {
                     final @NonNull B buffer,
                     final @NonNull String id,
                     final @NonNull CustomQueryPayload payload) {
-                buffer.writeUtf(id);
-                final StreamCodec<B, T> codec = (StreamCodec<B, T>) this.findCodec(id);
+                final PayloadCodecCache.Resolved<
+                                StreamCodec<? super B, ? extends CustomQueryPayload>>
+                        resolved = this.codecs.encoded(id);
+                buffer.writeBytes(resolved.encodedId());
+                final StreamCodec<B, T> codec = (StreamCodec<B, T>) resolved.codec();
                 codec.encode(buffer, (T) payload);
             }
 
             public void encode(final @NonNull B output, final @NonNull CustomQueryPayload payload) {
-                this.writeCap(output, payload.type().id(), payload);
+                final String id = payload.type().id();
+                if (!NetworkMetrics.enabled()) {
+                    this.writeCap(output, id, payload);
+                    return;
+                }
+                final int start = output.writerIndex();
+                final long time = System.nanoTime();
+                this.writeCap(output, id, payload);
+                NetworkMetrics.queryPayload(id)
+                        .encoded(output.writerIndex() - start, System.nanoTime() - time);
             }
 
             public CustomQueryPayload decode(final @NonNull B input) {
-                final String id = input.readUtf();
-                return this.findCodec(id).decode(input);
+                if (!NetworkMetrics.enabled()) {
+                    return this.codecs.codec(input.readUtfInterned()).decode(input);
+                }
+                final int start = input.readerIndex();
+                final long time = System.nanoTime();
+                final String id = input.readUtfInterned();
+                final CustomQueryPayload payload = this.codecs.codec(id).decode(input);
+                NetworkMetrics.queryPayload(id)
+                        .decoded(input.readerIndex() - start, System.nanoTime() - time);
+                return payload;
             }
         };
     }
@@ -120,12 +141,19 @@ public interface CustomQueryPayload {
                 final @NonNull String identifier);
     }
 
-    record Raw(@NonNull String id, @NonNull FriendlyByteBuf data) implements CustomQueryPayload {
+    record Raw(@NonNull String id, @NonNull FriendlyByteBuf data)
+            implements CustomQueryPayload, AutoCloseable {
         @Override
         public @NonNull Type<CustomQueryPayload> type() {
             return PayloadType.query(CustomQueryPayload.class, this.id())
                     .codec(DEFAULT_CODEC)
                     .build();
         }
+
+        /** Releases the payload data. */
+        @Override
+        public void close() {
+            this.data.close();
+        }
     }
 }
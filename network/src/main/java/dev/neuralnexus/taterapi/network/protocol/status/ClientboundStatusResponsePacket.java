@@ -14,13 +14,24 @@ import io.netty.handler.codec.DecoderException;
 import io.netty.handler.codec.EncoderException;
 
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
-public record ClientboundStatusResponsePacket(@NonNull ServerStatus status) implements Packet {
+/**
+ * @param status the server status
+ * @param frame the status already encoded by a {@link StatusResponseCache}, which must not be
+ *     modified, or null to encode the status when the packet is written
+ */
+public record ClientboundStatusResponsePacket(@NonNull ServerStatus status, byte @Nullable [] frame)
+        implements Packet {
     public static final StreamCodec<FriendlyByteBuf, ClientboundStatusResponsePacket> STREAM_CODEC =
             Packet.codec(
                     ClientboundStatusResponsePacket::encode,
                     ClientboundStatusResponsePacket::decode);
 
+    public ClientboundStatusResponsePacket(final @NonNull ServerStatus status) {
+        this(status, null);
+    }
+
     private static ClientboundStatusResponsePacket decode(@NonNull FriendlyByteBuf input) {
         final String json = input.readUtf();
         final ServerStatus status =
@@ -36,6 +47,10 @@ public record ClientboundStatusResponsePacket(@NonNull ServerStatus status) impl
     }
 
     private void encode(@NonNull FriendlyByteBuf output) {
+        if (this.frame != null) {
+            output.writeBytes(this.frame);
+            return;
+        }
         final String json =
                 ServerStatus.CODEC
                         .encode(this.status)
@@ -48,6 +63,23 @@ public record ClientboundStatusResponsePacket(@NonNull ServerStatus status) impl
         output.writeUtf(json);
     }
 
+    // A pre-encoded frame is only a shortcut for writing the status, so it doesn't affect equality
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof ClientboundStatusResponsePacket other
+                && this.status.equals(other.status);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.status.hashCode();
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return "ClientboundStatusResponsePacket[status=" + this.status + "]";
+    }
+
     @Override
     public PacketType<ClientboundStatusResponsePacket> type() {
         return PacketTypes.STATUS.CLIENTBOUND_STATUS_RESPONSE;
@@ -25,51 +25,160 @@ import org.jspecify.annotations.NonNull;
 import java.io.IOException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public record ServerStatus(
         JsonObject description, // TODO: Create proper abstraction for Component
         Optional<Players> players,
         Optional<Version> version,
-        Optional<String> favicon,
+        Optional<Favicon> favicon,
         boolean enforcesSecureChat) {
     private static final Gson gson =
-            new GsonBuilder().registerTypeAdapterFactory(OptionalTypeAdapter.FACTORY).create();
+            new GsonBuilder()
+                    .registerTypeAdapterFactory(OptionalTypeAdapter.FACTORY)
+                    .registerTypeAdapter(Favicon.class, new Favicon.Adapter().nullSafe())
+                    .create();
 
     public static final Codec<ServerStatus, String> CODEC =
             Codec.of(
                     status -> Result.success(gson.toJson(status)),
                     string -> Result.success(gson.fromJson(string, ServerStatus.class)));
 
-    // TODO: Use this later
-    public record Favicon(byte[] iconBytes) {
+    /**
+     * A server icon, serialised as a base64 PNG data URI. <br>
+     * Equality compares the image bytes, so that statuses rebuilt with an equal icon still match in
+     * {@link StatusResponseCache}. Encodings are cached by the image bytes, since a server sends
+     * the same icon with every ping.
+     *
+     * @param iconBytes the PNG image
+     */
+    public record Favicon(byte @NonNull [] iconBytes) {
         private static final String PREFIX = "data:image/png;base64,";
+        private static final int CACHE_SIZE = 16;
+        private static final Map<Key, String> ENCODED = new ConcurrentHashMap<>();
+
         public static final Codec<Favicon, String> CODEC =
                 Codec.of(Favicon::encode, Favicon::decode);
 
+        /** Content key with a precomputed hash, so a lookup hashes the image once */
+        private record Key(byte @NonNull [] bytes, int hash) {
+            Key(final byte @NonNull [] bytes) {
+                this(bytes, Favicon.hash(bytes));
+            }
+
+            @Override
+            public boolean equals(final Object obj) {
+                return obj instanceof Key other
+                        && this.hash == other.hash
+                        && Arrays.equals(this.bytes, other.bytes);
+            }
+
+            @Override
+            public int hashCode() {
+                return this.hash;
+            }
+        }
+
         private static <T extends String> Result<Favicon> decode(T string) {
             if (!string.startsWith(PREFIX)) {
                 return Result.error("Unknown format");
-            } else {
-                try {
-                    final String base64 = string.substring(PREFIX.length()).replaceAll("\n", "");
-                    final byte[] iconBytes =
-                            Base64.getDecoder().decode(base64.getBytes(StandardCharsets.UTF_8));
-                    return Result.success(new Favicon(iconBytes));
-                } catch (final IllegalArgumentException e) {
-                    return Result.error("Malformed base64 server icon");
+            }
+            // A Latin-1 string is copied straight out, where substring and replaceAll built two
+            // more strings. Line breaks some servers insert are then squeezed out in place.
+            final byte[] ascii = string.getBytes(StandardCharsets.ISO_8859_1);
+            int end = ascii.length;
+            if (string.indexOf('\n', PREFIX.length()) >= 0) {
+                end = PREFIX.length();
+                for (int i = PREFIX.length(); i < ascii.length; i++) {
+                    if (ascii[i] != '\n') {
+                        ascii[end++] = ascii[i];
+                    }
                 }
             }
+            try {
+                final ByteBuffer decoded =
+                        Base64.getDecoder()
+                                .decode(
+                                        ByteBuffer.wrap(
+                                                ascii, PREFIX.length(), end - PREFIX.length()));
+                final byte[] iconBytes = decoded.array();
+                return Result.success(
+                        new Favicon(
+                                iconBytes.length == decoded.remaining()
+                                        ? iconBytes
+                                        : Arrays.copyOf(iconBytes, decoded.remaining())));
+            } catch (final IllegalArgumentException e) {
+                return Result.error("Malformed base64 server icon");
+            }
         }
 
         private static Result<String> encode(Favicon favicon) {
-            final String faviconString =
-                    new String(
-                            Base64.getEncoder().encode(favicon.iconBytes), StandardCharsets.UTF_8);
-            return Result.success(PREFIX + faviconString);
+            return Result.success(favicon.encoded());
+        }
+
+        /**
+         * Gets the data URI for this icon, encoding it only the first time an equal image is seen.
+         *
+         * @return the data URI
+         */
+        public @NonNull String encoded() {
+            final Key key = new Key(this.iconBytes);
+            final String cached = ENCODED.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            final String encoded = PREFIX + Base64.getEncoder().encodeToString(this.iconBytes);
+            if (ENCODED.size() >= CACHE_SIZE) {
+                ENCODED.clear(); // Icons rarely change, so just start over
+            }
+            // Keyed by a copy, since the caller may still modify the array
+            ENCODED.put(new Key(this.iconBytes.clone(), key.hash), encoded);
+            return encoded;
+        }
+
+        /** Samples at most 64 bytes, equal hashes are still compared in full */
+        private static int hash(final byte @NonNull [] bytes) {
+            int h = bytes.length;
+            final int step = Math.max(1, bytes.length >>> 6);
+            for (int i = 0; i < bytes.length; i += step) {
+                h = 31 * h + bytes[i];
+            }
+            return h;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof Favicon other && Arrays.equals(this.iconBytes, other.iconBytes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash(this.iconBytes);
+        }
+
+        @Override
+        public @NonNull String toString() {
+            return "Favicon[" + this.iconBytes.length + " bytes]";
+        }
+
+        /** Serialises the icon as its data URI, dropping malformed icons rather than the status */
+        static final class Adapter extends TypeAdapter<Favicon> {
+            @Override
+            public void write(final JsonWriter out, final Favicon value) throws IOException {
+                out.value(value.encoded());
+            }
+
+            @Override
+            public Favicon read(final JsonReader in) throws IOException {
+                return decode(in.nextString()).result().orElse(null);
+            }
         }
     }
 
@@ -0,0 +1,184 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network.protocol.status;
+
+import com.google.gson.JsonObject;
+
+import dev.neuralnexus.taterapi.mc.server.players.NameAndId;
+import dev.neuralnexus.taterapi.network.FriendlyByteBuf;
+
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.EncoderException;
+
+import org.jspecify.annotations.NonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Caches the encoded body of {@link ClientboundStatusResponsePacket}, the status JSON with its
+ * VarInt length prefix, so that repeated pings skip Gson. Hold one per status you serve and build
+ * responses with {@link #packet(ServerStatus)}. The frame is rebuilt only when the status changes,
+ * e.g. the players, description or favicon, including changes made in place to a status that was
+ * passed in before. <br>
+ * With a TTL, the frame is served as is until it expires, without comparing or even building the
+ * status, which bounds rebuilds to one per TTL when the online count keeps changing.
+ */
+public final class StatusResponseCache {
+    private final long ttlNanos;
+    private volatile Entry entry;
+
+    /**
+     * @param status the status last served with the frame
+     * @param snapshot a private copy of the status, to notice changes made in place
+     * @param frame the encoded status
+     * @param expiresAt when the TTL runs out
+     */
+    private record Entry(
+            @NonNull ServerStatus status,
+            @NonNull ServerStatus snapshot,
+            byte @NonNull [] frame,
+            long expiresAt) {}
+
+    /** Creates a cache that only rebuilds when the status changes */
+    public StatusResponseCache() {
+        this(Duration.ZERO);
+    }
+
+    /**
+     * @param ttl how long a frame is served without checking the status, zero to always check
+     */
+    public StatusResponseCache(final @NonNull Duration ttl) {
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("Negative TTL: " + ttl);
+        }
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Builds a response carrying the encoded frame for a status. With a TTL, the response may carry
+     * an earlier status whose frame hasn't expired.
+     *
+     * @param status the current status
+     * @return the response
+     */
+    public @NonNull ClientboundStatusResponsePacket packet(final @NonNull ServerStatus status) {
+        return this.packet(() -> status);
+    }
+
+    /**
+     * Builds a response carrying the encoded frame, only building the status when the cached frame
+     * has expired.
+     *
+     * @param status supplies the current status
+     * @return the response
+     */
+    public @NonNull ClientboundStatusResponsePacket packet(
+            final @NonNull Supplier<@NonNull ServerStatus> status) {
+        final Entry entry = this.entry;
+        if (this.fresh(entry)) {
+            return new ClientboundStatusResponsePacket(entry.status, entry.frame);
+        }
+        final ServerStatus current = status.get();
+        return new ClientboundStatusResponsePacket(current, this.refresh(entry, current).frame);
+    }
+
+    /**
+     * Gets the encoded frame for a status. The returned array is shared and must not be modified.
+     *
+     * @param status the current status
+     * @return the VarInt prefixed status JSON
+     */
+    public byte @NonNull [] frame(final @NonNull ServerStatus status) {
+        return this.frame(() -> status);
+    }
+
+    /**
+     * Gets the encoded frame, only building the status when the cached frame has expired. The
+     * returned array is shared and must not be modified.
+     *
+     * @param status supplies the current status
+     * @return the VarInt prefixed status JSON
+     */
+    public byte @NonNull [] frame(final @NonNull Supplier<@NonNull ServerStatus> status) {
+        final Entry entry = this.entry;
+        if (this.fresh(entry)) {
+            return entry.frame;
+        }
+        return this.refresh(entry, status.get()).frame;
+    }
+
+    private boolean fresh(final Entry entry) {
+        return entry != null && this.ttlNanos != 0 && System.nanoTime() - entry.expiresAt < 0;
+    }
+
+    /** Keeps the frame if the status is unchanged, renewing its TTL, and rebuilds it otherwise */
+    private @NonNull Entry refresh(final Entry entry, final @NonNull ServerStatus current) {
+        final long now = this.ttlNanos == 0 ? 0 : System.nanoTime();
+        if (entry != null && entry.snapshot.equals(current)) {
+            if (this.ttlNanos == 0) {
+                return entry;
+            }
+            final Entry renewed =
+                    new Entry(current, entry.snapshot, entry.frame, now + this.ttlNanos);
+            this.entry = renewed;
+            return renewed;
+        }
+        final Entry rebuilt =
+                new Entry(current, snapshot(current), encode(current), now + this.ttlNanos);
+        this.entry = rebuilt;
+        return rebuilt;
+    }
+
+    /** Drops the cached frame, so that the next ping rebuilds it */
+    public void invalidate() {
+        this.entry = null;
+    }
+
+    /** Copies the parts of a status that can be changed in place */
+    private static @NonNull ServerStatus snapshot(final @NonNull ServerStatus status) {
+        final JsonObject description = status.description();
+        final Optional<ServerStatus.Players> players = status.players();
+        final Optional<ServerStatus.Favicon> favicon = status.favicon();
+        return new ServerStatus(
+                description == null ? null : description.deepCopy(),
+                players == null ? null : players.map(StatusResponseCache::snapshot),
+                status.version(),
+                favicon == null
+                        ? null
+                        : favicon.map(icon -> new ServerStatus.Favicon(icon.iconBytes().clone())),
+                status.enforcesSecureChat());
+    }
+
+    private static ServerStatus.@NonNull Players snapshot(
+            final ServerStatus.@NonNull Players players) {
+        final List<NameAndId> sample = players.sample();
+        return new ServerStatus.Players(
+                players.max(),
+                players.online(),
+                sample == null ? null : Collections.unmodifiableList(new ArrayList<>(sample)));
+    }
+
+    private static byte @NonNull [] encode(final @NonNull ServerStatus status) {
+        final String json =
+                ServerStatus.CODEC
+                        .encode(status)
+                        .result()
+                        .orElseThrow(
+                                () ->
+                                        new EncoderException(
+                                                "Failed to encode ServerStatus to JSON: "
+                                                        + status));
+        final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer(json.length() + 3));
+        buf.writeUtf(json);
+        final byte[] frame = new byte[buf.readableBytes()];
+        buf.readBytes(frame);
+        return frame;
+    }
+}
@@ -10,6 +10,8 @@ import dev.neuralnexus.taterapi.network.protocol.PayloadTypes;
 import dev.neuralnexus.taterapi.network.protocol.common.custom.CustomPacketPayload;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.EncoderException;
 
 import org.jspecify.annotations.NonNull;
 
@@ -19,20 +21,24 @@ import java.util.function.Consumer;
  * <a href="https://www.spigotmc.org/wiki/bukkit-bungee-plugin-messaging-channel">BuneeCord plugin
  * messaging docs</a>
  *
+ * <p>The request factories allocate through {@link FriendlyByteBuf#FriendlyByteBuf()}, so the
+ * payload owns its data buffer and should be {@link #close() closed} once sent.
+ *
  * @param subchannel The subchannel
  * @param data The raw payload
  */
 public record BungeeCordPayload(@NonNull SubChannel subchannel, @NonNull FriendlyByteBuf data)
-        implements CustomPacketPayload {
+        implements CustomPacketPayload, AutoCloseable {
     public static final StreamCodec<FriendlyByteBuf, BungeeCordPayload> STREAM_CODEC =
             CustomPacketPayload.codec(BungeeCordPayload::encode, BungeeCordPayload::decode);
 
     private BungeeCordPayload(@NonNull SubChannel subchannel) {
-        this(subchannel, new FriendlyByteBuf());
+        this(subchannel, new FriendlyByteBuf(Unpooled.EMPTY_BUFFER));
     }
 
     private static BungeeCordPayload decode(final @NonNull FriendlyByteBuf input) {
-        return new BungeeCordPayload(SubChannel.fromId(input.readUtf()), input.readPayload());
+        return new BungeeCordPayload(
+                SubChannel.fromId(input.readUtfInterned()), input.readPayload());
     }
 
     private void encode(final @NonNull FriendlyByteBuf output) {
@@ -45,6 +51,12 @@ public record BungeeCordPayload(@NonNull SubChannel subchannel, @NonNull Friendl
         return PayloadTypes.CUSTOM.BUNGEECORD;
     }
 
+    /** Releases the data buffer. */
+    @Override
+    public void close() {
+        this.data.close();
+    }
+
     public void handle(final @NonNull BungeeCordPayloadHandler handler) {
         handler.accept(this);
     }
@@ -75,7 +87,8 @@ public record BungeeCordPayload(@NonNull SubChannel subchannel, @NonNull Friendl
             final @NonNull String dst,
             final @NonNull String channel,
             final @NonNull ByteBuf payload) {
-        final FriendlyByteBuf buf = new FriendlyByteBuf();
+        final FriendlyByteBuf buf =
+                new FriendlyByteBuf(forwardHeaderSize(dst, channel) + payload.readableBytes());
         buf.writeUtf(dst);
         buf.writeUtf(channel);
         buf.writeShort(payload.readableBytes());
@@ -83,14 +96,41 @@ public record BungeeCordPayload(@NonNull SubChannel subchannel, @NonNull Friendl
         return new BungeeCordPayload(subchannel, buf);
     }
 
+    /**
+     * Encodes the payload straight into the forward body, reserving the length prefix and filling
+     * it in afterwards, rather than encoding into a temporary buffer and copying it over.
+     */
     @SuppressWarnings("unchecked")
     public static <T extends CustomPacketPayload> BungeeCordPayload ForwardBase(
             final @NonNull SubChannel subchannel,
             final @NonNull String dst,
             final @NonNull T payload) {
+        final CustomPacketPayload.Type<T> type = (CustomPacketPayload.Type<T>) payload.type();
         final FriendlyByteBuf buf = new FriendlyByteBuf();
-        ((CustomPacketPayload.Type<T>) payload.type()).codec().encode(buf, payload);
-        return ForwardBase(subchannel, dst, payload.type().id(), buf);
+        try {
+            buf.writeUtf(dst);
+            buf.writeUtf(type.id());
+            final int lengthIndex = buf.writerIndex();
+            buf.writeShort(0);
+            type.codec().encode(buf, payload);
+            final int length = buf.writerIndex() - lengthIndex - Short.BYTES;
+            if (length > FriendlyByteBuf.MAX_PAYLOAD_SIZE) {
+                throw new EncoderException(
+                        "Payload may not be larger than "
+                                + FriendlyByteBuf.MAX_PAYLOAD_SIZE
+                                + " bytes");
+            }
+            buf.setShort(lengthIndex, length);
+        } catch (final RuntimeException e) {
+            buf.release();
+            throw e;
+        }
+        return new BungeeCordPayload(subchannel, buf);
+    }
+
+    /** Upper bound of the encoded destination, channel and length prefix */
+    private static int forwardHeaderSize(final @NonNull String dst, final @NonNull String channel) {
+        return 2 * 3 + 3 * (dst.length() + channel.length()) + Short.BYTES;
     }
 
     public static BungeeCordPayload Forward(
@@ -0,0 +1,202 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network.proxy.bungeecord;
+
+import org.jspecify.annotations.NonNull;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Issues BungeeCord queries and completes them from the proxy's responses. <br>
+ * The proxy doesn't tag responses, so queries are matched by subchannel and argument, e.g. the
+ * server of a {@code PlayerCount}. Identical queries issued while one is in flight share its
+ * request and response, so a tick full of {@code PlayerCount ALL} sends a single message. Queries
+ * the proxy never answers, such as {@code GetPlayerServer} for an offline player, fail with a
+ * {@link java.util.concurrent.TimeoutException}. <br>
+ * Player names are matched case-insensitively, since the proxy answers with the actual name.
+ */
+public final class BungeeCordQueries {
+    private static final Set<SubChannel> QUERIES =
+            EnumSet.of(
+                    SubChannel.GetPlayerServer,
+                    SubChannel.GetServer,
+                    SubChannel.GetServers,
+                    SubChannel.IP,
+                    SubChannel.IPOther,
+                    SubChannel.PlayerCount,
+                    SubChannel.PlayerList,
+                    SubChannel.ServerIP,
+                    SubChannel.UUID,
+                    SubChannel.UUIDOther);
+
+    private final Map<Key, CompletableFuture<Object>> pending = new ConcurrentHashMap<>();
+    private final Consumer<BungeeCordPayload> sender;
+    private final long timeoutMillis;
+
+    private record Key(@NonNull SubChannel subchannel, @NonNull String argument) {}
+
+    /**
+     * @param sender sends a request to the proxy, taking ownership of the payload
+     * @param timeout how long to wait for a response
+     */
+    public BungeeCordQueries(
+            final @NonNull Consumer<BungeeCordPayload> sender, final @NonNull Duration timeout) {
+        this.sender = sender;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    /**
+     * Completes the pending query a response belongs to. Call this for every BungeeCord payload
+     * received from the proxy; a payload that doesn't answer a pending query is left unread, so it
+     * can still be passed on to other listeners.
+     *
+     * @param payload the response
+     * @return whether the payload answered a pending query
+     */
+    public boolean handle(final @NonNull BungeeCordPayload payload) {
+        final SubChannel subchannel = payload.subchannel();
+        if (!QUERIES.contains(subchannel) || this.pending.isEmpty()) {
+            return false;
+        }
+        final int readerIndex = payload.data().readerIndex();
+        boolean delivered = false;
+        try {
+            final Object response = subchannel.response(payload);
+            final String argument;
+            if (response instanceof PlayerResponse<?> player) {
+                argument = player.player().toLowerCase(Locale.ROOT);
+            } else if (response instanceof ServerResponse<?> server) {
+                argument = server.server();
+            } else {
+                argument = "";
+            }
+            // The removed query may already have timed out, in which case nothing took the response
+            final CompletableFuture<Object> future =
+                    this.pending.remove(new Key(subchannel, argument));
+            delivered = future != null && future.complete(response);
+            return delivered;
+        } finally {
+            if (!delivered) {
+                payload.data().readerIndex(readerIndex);
+            }
+        }
+    }
+
+    /** Fails every pending query, e.g. once the connection to the proxy is gone */
+    public void cancelAll() {
+        for (final Key key : this.pending.keySet()) {
+            final CompletableFuture<Object> future = this.pending.remove(key);
+            if (future != null) {
+                future.completeExceptionally(new CancellationException("Queries cancelled"));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> @NonNull CompletableFuture<T> query(
+            final @NonNull SubChannel subchannel,
+            final @NonNull String argument,
+            final @NonNull Supplier<BungeeCordPayload> request) {
+        final Key key = new Key(subchannel, argument);
+        CompletableFuture<Object> future;
+        // A completed query may linger until its cleanup runs, so it's replaced rather than joined
+        while ((future = this.pending.get(key)) == null || future.isDone()) {
+            final CompletableFuture<Object> created = new CompletableFuture<>();
+            if (future == null
+                    ? this.pending.putIfAbsent(key, created) == null
+                    : this.pending.replace(key, future, created)) {
+                future = created;
+                created.orTimeout(this.timeoutMillis, TimeUnit.MILLISECONDS)
+                        .whenComplete((response, error) -> this.pending.remove(key, created));
+                try {
+                    this.sender.accept(request.get());
+                } catch (final RuntimeException e) {
+                    created.completeExceptionally(e);
+                }
+                break;
+            }
+        }
+        // A copy, so that one caller cancelling doesn't cancel the others
+        return (CompletableFuture<T>) future.copy();
+    }
+
+    public @NonNull CompletableFuture<PlayerResponse<String>> getPlayerServer(
+            final @NonNull String player) {
+        return this.query(
+                SubChannel.GetPlayerServer,
+                player.toLowerCase(Locale.ROOT),
+                () -> BungeeCordPayload.GetPlayerServer(player));
+    }
+
+    public @NonNull CompletableFuture<String> getServer() {
+        return this.query(SubChannel.GetServer, "", BungeeCordPayload::GetServer);
+    }
+
+    public @NonNull CompletableFuture<List<String>> getServers() {
+        return this.query(SubChannel.GetServers, "", BungeeCordPayload::GetServers);
+    }
+
+    public @NonNull CompletableFuture<SocketAddress> ip() {
+        return this.query(SubChannel.IP, "", BungeeCordPayload::IP);
+    }
+
+    public @NonNull CompletableFuture<PlayerResponse<SocketAddress>> ipOther(
+            final @NonNull String player) {
+        return this.query(
+                SubChannel.IPOther,
+                player.toLowerCase(Locale.ROOT),
+                () -> BungeeCordPayload.IPOther(player));
+    }
+
+    public @NonNull CompletableFuture<ServerResponse<Integer>> playerCount(
+            final @NonNull String server) {
+        return this.query(
+                SubChannel.PlayerCount, server, () -> BungeeCordPayload.PlayerCount(server));
+    }
+
+    public @NonNull CompletableFuture<ServerResponse<Integer>> playerCountAll() {
+        return this.playerCount("ALL");
+    }
+
+    public @NonNull CompletableFuture<ServerResponse<List<String>>> playerList(
+            final @NonNull String server) {
+        return this.query(
+                SubChannel.PlayerList, server, () -> BungeeCordPayload.PlayerList(server));
+    }
+
+    public @NonNull CompletableFuture<ServerResponse<List<String>>> playerListAll() {
+        return this.playerList("ALL");
+    }
+
+    public @NonNull CompletableFuture<ServerResponse<SocketAddress>> serverIP(
+            final @NonNull String server) {
+        return this.query(SubChannel.ServerIP, server, () -> BungeeCordPayload.ServerIP(server));
+    }
+
+    public @NonNull CompletableFuture<UUID> uuid() {
+        return this.query(SubChannel.UUID, "", BungeeCordPayload::UUID);
+    }
+
+    public @NonNull CompletableFuture<PlayerResponse<UUID>> uuidOther(
+            final @NonNull String player) {
+        return this.query(
+                SubChannel.UUIDOther,
+                player.toLowerCase(Locale.ROOT),
+                () -> BungeeCordPayload.UUIDOther(player));
+    }
+}
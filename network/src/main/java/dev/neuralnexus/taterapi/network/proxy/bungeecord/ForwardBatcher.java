@@ -0,0 +1,205 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+package dev.neuralnexus.taterapi.network.proxy.bungeecord;
+
+import dev.neuralnexus.taterapi.network.FriendlyByteBuf;
+import dev.neuralnexus.taterapi.network.protocol.common.custom.CustomPacketPayload;
+
+import io.netty.buffer.ByteBuf;
+
+import org.jspecify.annotations.NonNull;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Coalesces small {@code Forward} messages to the same destination and channel into one plugin
+ * message, which {@link #unpack} splits up again on the receiving server. <br>
+ * A batch is forwarded on the {@link #CHANNEL} channel, with a body of the original channel, a
+ * short message count, and each message prefixed with its short length. The batch is built in place
+ * as a complete {@code Forward} payload, so flushing sends it without another copy. <br>
+ * Messages keep their order within a destination and channel. Batches are sent once they would
+ * exceed the size budget, once they are older than the latency budget and {@link #flushDue()} or
+ * {@link #forward} runs, or on {@link #flush()}, e.g. at the end of each tick.
+ */
+public final class ForwardBatcher implements AutoCloseable {
+    public static final String CHANNEL = "taterlib:forward_batch";
+
+    private final Map<Key, Batch> batches = new LinkedHashMap<>();
+    private final Consumer<BungeeCordPayload> sender;
+    private final int maxBatchBytes;
+    private final long maxDelayNanos;
+
+    private record Key(@NonNull String dst, @NonNull String channel) {}
+
+    private static final class Batch {
+        private final FriendlyByteBuf buf;
+        private final int lengthIndex;
+        private final int countIndex;
+        private final long created;
+        private int count;
+
+        private Batch(final @NonNull Key key, final long created) {
+            this.buf = new FriendlyByteBuf();
+            this.buf.writeUtf(key.dst());
+            this.buf.writeUtf(CHANNEL);
+            this.lengthIndex = this.buf.writerIndex();
+            this.buf.writeShort(0);
+            this.buf.writeUtf(key.channel());
+            this.countIndex = this.buf.writerIndex();
+            this.buf.writeShort(0);
+            this.created = created;
+        }
+
+        private int size() {
+            return this.buf.writerIndex() - this.lengthIndex - Short.BYTES;
+        }
+
+        private @NonNull BungeeCordPayload finish() {
+            this.buf.setShort(this.lengthIndex, this.size());
+            this.buf.setShort(this.countIndex, this.count);
+            return new BungeeCordPayload(SubChannel.Forward, this.buf);
+        }
+    }
+
+    /**
+     * @param sender sends a batch to the proxy, taking ownership of the payload
+     * @param maxBatchBytes the largest batch body to build, at most {@link
+     *     FriendlyByteBuf#MAX_PAYLOAD_SIZE}
+     * @param maxDelay how long a message may wait in a batch before it is due
+     */
+    public ForwardBatcher(
+            final @NonNull Consumer<BungeeCordPayload> sender,
+            final int maxBatchBytes,
+            final @NonNull Duration maxDelay) {
+        if (maxBatchBytes <= 0 || maxBatchBytes > FriendlyByteBuf.MAX_PAYLOAD_SIZE) {
+            throw new IllegalArgumentException(
+                    "Batch size must be between 1 and "
+                            + FriendlyByteBuf.MAX_PAYLOAD_SIZE
+                            + ", got "
+                            + maxBatchBytes);
+        }
+        this.sender = sender;
+        this.maxBatchBytes = maxBatchBytes;
+        this.maxDelayNanos = maxDelay.toNanos();
+    }
+
+    /**
+     * Queues a message for a server, "ALL" or "ONLINE". The payload's readable bytes are copied, so
+     * the caller keeps ownership of it.
+     *
+     * @param dst the destination
+     * @param channel the channel the message is for
+     * @param payload the message
+     */
+    public synchronized void forward(
+            final @NonNull String dst,
+            final @NonNull String channel,
+            final @NonNull ByteBuf payload) {
+        final long now = System.nanoTime();
+        this.flushDue(now);
+        final int length = payload.readableBytes();
+        final Key key = new Key(dst, channel);
+        Batch batch = this.batches.get(key);
+        if (batch != null && batch.size() + Short.BYTES + length > this.maxBatchBytes) {
+            this.send(this.batches.remove(key));
+            batch = null;
+        }
+        if (batch == null) {
+            // Upper bound of the channel and count header
+            if (3 + 3 * channel.length() + Short.BYTES * 2 + length > this.maxBatchBytes) {
+                // Too big to batch, so send it as is, after anything queued before it
+                this.sender.accept(BungeeCordPayload.Forward(dst, channel, payload));
+                return;
+            }
+            batch = new Batch(key, now);
+            this.batches.put(key, batch);
+        }
+        batch.buf.writeShort(length);
+        batch.buf.writeBytes(payload, payload.readerIndex(), length);
+        batch.count++;
+    }
+
+    /**
+     * Queues a payload for a server, "ALL" or "ONLINE".
+     *
+     * @param dst the destination
+     * @param payload the payload, encoded with its type's codec
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends CustomPacketPayload> void forward(
+            final @NonNull String dst, final @NonNull T payload) {
+        final CustomPacketPayload.Type<T> type = (CustomPacketPayload.Type<T>) payload.type();
+        try (final FriendlyByteBuf buf = new FriendlyByteBuf()) {
+            type.codec().encode(buf, payload);
+            this.forward(dst, type.id(), buf);
+        }
+    }
+
+    /** Sends every queued batch, oldest first */
+    public synchronized void flush() {
+        for (final Batch batch : this.batches.values()) {
+            this.send(batch);
+        }
+        this.batches.clear();
+    }
+
+    /** Sends the batches that have waited longer than the latency budget */
+    public synchronized void flushDue() {
+        this.flushDue(System.nanoTime());
+    }
+
+    private void flushDue(final long now) {
+        // Insertion order is creation order, so the due batches come first
+        final Iterator<Batch> iterator = this.batches.values().iterator();
+        while (iterator.hasNext()) {
+            final Batch batch = iterator.next();
+            if (now - batch.created < this.maxDelayNanos) {
+                return;
+            }
+            iterator.remove();
+            this.send(batch);
+        }
+    }
+
+    private void send(final @NonNull Batch batch) {
+        this.sender.accept(batch.finish());
+    }
+
+    /** Sends whatever is still queued */
+    @Override
+    public void close() {
+        this.flush();
+    }
+
+    /**
+     * Splits a forwarded batch back into the original messages. Each message's data is a slice of
+     * the batch, only valid while the batch is.
+     *
+     * @param forwarded a message received through {@link SubChannel#Forward}
+     * @param handler receives each message, in the order they were queued
+     * @return false if the message isn't a batch, in which case it is left untouched
+     */
+    public static boolean unpack(
+            final CustomPacketPayload.@NonNull Raw forwarded,
+            final @NonNull Consumer<CustomPacketPayload.Raw> handler) {
+        if (!CHANNEL.equals(forwarded.id())) {
+            return false;
+        }
+        final FriendlyByteBuf data = forwarded.data();
+        final String channel = data.readUtfInterned();
+        final int count = data.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            final int length = data.readUnsignedShort();
+            handler.accept(
+                    new CustomPacketPayload.Raw(
+                            channel, new FriendlyByteBuf(data.readSlice(length))));
+        }
+        return true;
+    }
+}
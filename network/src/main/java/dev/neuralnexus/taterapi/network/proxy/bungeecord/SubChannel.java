@@ -10,7 +10,11 @@ import dev.neuralnexus.taterapi.network.protocol.common.custom.CustomPacketPaylo
 import org.jspecify.annotations.NonNull;
 
 import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @SuppressWarnings("unchecked")
@@ -20,7 +24,7 @@ public enum SubChannel {
     Forward("Forward") {
         @Override
         public @NonNull CustomPacketPayload response(final @NonNull BungeeCordPayload payload) {
-            final String channel = payload.data().readUtf();
+            final String channel = payload.data().readUtfInterned();
             final int length = payload.data().readUnsignedShort();
             final FriendlyByteBuf buf = payload.data().readPayload(length);
             return new CustomPacketPayload.Raw(channel, buf);
@@ -49,7 +53,7 @@ public enum SubChannel {
     GetServers("GetServers") {
         @Override
         public @NonNull List<String> response(final @NonNull BungeeCordPayload payload) {
-            return List.of(payload.data().readUtf().split(", "));
+            return splitList(payload.data().readUtf());
         }
     },
     IP("IP") {
@@ -83,8 +87,7 @@ public enum SubChannel {
         public @NonNull ServerResponse<List<String>> response(
                 final @NonNull BungeeCordPayload payload) {
             final String server = payload.data().readUtf(); // Can be ALL
-            final String[] playerList = payload.data().readUtf().split(", ");
-            return new ServerResponse<>(server, List.of(playerList));
+            return new ServerResponse<>(server, splitList(payload.data().readUtf()));
         }
     },
     ServerIP("ServerIP") {
@@ -115,6 +118,31 @@ public enum SubChannel {
                 "SubChannel " + this.id + " does not support responses");
     }
 
+    /**
+     * Splits a comma separated list from the proxy by scanning for separators, rather than
+     * compiling a regex through {@link String#split} on every response.
+     */
+    private static @NonNull List<String> splitList(final @NonNull String list) {
+        if (list.isEmpty()) {
+            return List.of();
+        }
+        final List<String> values = new ArrayList<>();
+        int start = 0;
+        for (int end; (end = list.indexOf(", ", start)) >= 0; start = end + 2) {
+            values.add(list.substring(start, end));
+        }
+        values.add(list.substring(start));
+        return Collections.unmodifiableList(values);
+    }
+
+    private static final Map<String, SubChannel> BY_ID = new HashMap<>();
+
+    static {
+        for (final SubChannel subchannel : values()) {
+            BY_ID.put(subchannel.id, subchannel);
+        }
+    }
+
     private final @NonNull String id;
 
     SubChannel(final @NonNull String id) {
@@ -126,11 +154,10 @@ public enum SubChannel {
     }
 
     public static SubChannel fromId(final @NonNull String id) {
-        for (final SubChannel subchannel : values()) {
-            if (subchannel.id.equals(id)) {
-                return subchannel;
-            }
+        final SubChannel subchannel = BY_ID.get(id);
+        if (subchannel == null) {
+            throw new IllegalArgumentException("Unknown subchannel: " + id);
         }
-        throw new IllegalArgumentException("Unknown subchannel: " + id);
+        return subchannel;
     }
 }
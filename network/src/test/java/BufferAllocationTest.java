@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.neuralnexus.taterapi.network.FriendlyByteBuf;
+import dev.neuralnexus.taterapi.network.proxy.bungeecord.BungeeCordPayload;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+/** Tests for buffer allocation, payload modes and the leak report. */
+public class BufferAllocationTest {
+    @AfterEach
+    public void reset() {
+        FriendlyByteBuf.allocator(UnpooledByteBufAllocator.DEFAULT, false);
+        FriendlyByteBuf.trackLeaks(false);
+        FriendlyByteBuf.payloadMode(FriendlyByteBuf.PayloadMode.COPY);
+    }
+
+    @Test
+    public void testDefaultIsUnpooledHeap() {
+        try (final FriendlyByteBuf buf = new FriendlyByteBuf()) {
+            assertFalse(buf.isDirect());
+            assertTrue(buf.hasArray());
+        }
+    }
+
+    @Test
+    public void testPooledDirect() {
+        FriendlyByteBuf.usePooledAllocator();
+        final FriendlyByteBuf buf;
+        try (final FriendlyByteBuf scoped = new FriendlyByteBuf()) {
+            buf = scoped;
+            assertTrue(buf.isDirect());
+            assertEquals(PooledByteBufAllocator.DEFAULT, buf.alloc());
+            buf.writeUtf("minecraft:brand");
+        }
+        assertEquals(0, buf.refCnt());
+    }
+
+    @Test
+    public void testLeakReport() {
+        FriendlyByteBuf.usePooledAllocator();
+        FriendlyByteBuf.trackLeaks(true);
+        final BungeeCordPayload leaked = BungeeCordPayload.Connect("lobby");
+        try (final BungeeCordPayload payload = BungeeCordPayload.PlayerCount("lobby")) {
+            assertTrue(payload.data().isReadable());
+            assertEquals(2, FriendlyByteBuf.leakReport().size());
+        }
+        assertEquals(1, FriendlyByteBuf.leakReport().size());
+        assertTrue(FriendlyByteBuf.leakReport().get(0).contains("Connect"));
+        leaked.close();
+        assertTrue(FriendlyByteBuf.leakReport().isEmpty());
+    }
+
+    @Test
+    public void testEmptyRequestsDoNotAllocate() {
+        FriendlyByteBuf.trackLeaks(true);
+        try (final BungeeCordPayload payload = BungeeCordPayload.GetServers()) {
+            assertEquals(0, payload.data().readableBytes());
+            assertTrue(FriendlyByteBuf.leakReport().isEmpty());
+        }
+    }
+
+    @Test
+    public void testRetainedSlicePayloadSharesMemory() {
+        final ByteBuf source = PooledByteBufAllocator.DEFAULT.directBuffer();
+        source.writeBytes(new byte[] {1, 2, 3});
+        final FriendlyByteBuf buf = new FriendlyByteBuf(source);
+        final FriendlyByteBuf payload =
+                buf.readPayload(
+                        FriendlyByteBuf.MAX_PAYLOAD_SIZE,
+                        FriendlyByteBuf.PayloadMode.RETAINED_SLICE);
+        assertEquals(0, buf.readableBytes());
+        assertEquals(2, source.refCnt());
+
+        source.setByte(0, 42);
+        assertEquals(42, payload.getByte(payload.readerIndex()));
+
+        buf.release();
+        assertEquals(3, payload.readableBytes());
+        payload.release();
+        assertEquals(0, source.refCnt());
+    }
+
+    @Test
+    public void testAdaptivePayloadCopiesSmallPayloads() {
+        FriendlyByteBuf.payloadMode(FriendlyByteBuf.PayloadMode.ADAPTIVE);
+        final int large = FriendlyByteBuf.PayloadMode.SLICE_THRESHOLD;
+        for (final int size : new int[] {16, large}) {
+            final ByteBuf source = Unpooled.buffer().writeZero(size);
+            try (final FriendlyByteBuf payload = new FriendlyByteBuf(source).readPayload()) {
+                assertEquals(size, payload.readableBytes());
+                assertEquals(size == large ? 2 : 1, source.refCnt());
+            }
+            assertEquals(1, source.refCnt());
+            source.release();
+        }
+    }
+
+    @Test
+    public void testFluentCallsReturnThis() {
+        try (final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer(64))) {
+            assertSame(buf, buf.writeVarInt(1).writeUtf("a").writeInt(2).writeLong(3));
+            assertSame(buf, buf.setInt(0, 4).skipBytes(1).readerIndex(0).ensureWritable(8));
+            assertSame(buf, buf.markReaderIndex().resetReaderIndex().clear().retain().touch());
+            buf.release();
+        }
+    }
+
+    @Test
+    public void testHotPathDoesNotAllocate() {
+        final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(
+                bean instanceof com.sun.management.ThreadMXBean threads
+                        && threads.isThreadAllocatedMemorySupported()
+                        && threads.isThreadAllocatedMemoryEnabled());
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        try (final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer(256))) {
+            roundTrip(buf, 10_000);
+            final long before = threads.getCurrentThreadAllocatedBytes();
+            roundTrip(buf, 100_000);
+            final long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+            // Far below one 16 byte wrapper per call, leaving room for the MXBean's own garbage
+            assertTrue(allocated < 64 * 1024, "Allocated " + allocated + " bytes");
+        }
+    }
+
+    private static void roundTrip(final FriendlyByteBuf buf, final int iterations) {
+        long sink = 0;
+        for (int i = 0; i < iterations; i++) {
+            buf.clear()
+                    .writeVarInt(i)
+                    .writeUtf("minecraft:brand")
+                    .writeBoolean(true)
+                    .writeInt(i)
+                    .writeLong(i)
+                    .writeShort(i)
+                    .setByte(buf.writerIndex() - 1, 0)
+                    .ensureWritable(16);
+            sink += buf.readVarInt();
+            sink += buf.readUtfInterned().length();
+            sink += buf.readBoolean() ? 1 : 0;
+            sink += buf.readInt() + buf.readLong() + buf.readShort();
+        }
+        assertTrue(sink != 0);
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import dev.neuralnexus.taterapi.network.FriendlyByteBuf;
+import dev.neuralnexus.taterapi.network.protocol.common.custom.BrandPayload;
+import dev.neuralnexus.taterapi.network.protocol.common.custom.CustomPacketPayload;
+import dev.neuralnexus.taterapi.network.proxy.bungeecord.BungeeCordPayload;
+import dev.neuralnexus.taterapi.network.proxy.bungeecord.SubChannel;
+
+import org.junit.jupiter.api.Test;
+
+/** Tests for the BungeeCord Forward payloads. */
+public class BungeeCordPayloadTest {
+    @Test
+    public void testForwardRoundTrip() {
+        final BrandPayload brand = new BrandPayload("TaterLib");
+        try (final BungeeCordPayload forward = BungeeCordPayload.Forward("lobby", brand)) {
+            assertEquals(SubChannel.Forward, forward.subchannel());
+            final FriendlyByteBuf data = forward.data();
+            assertEquals("lobby", data.readUtf());
+            assertEquals(brand.type().id(), data.readUtf());
+            assertEquals(data.readableBytes() - Short.BYTES, data.readUnsignedShort());
+            assertEquals(brand, BrandPayload.STREAM_CODEC.decode(data));
+            assertEquals(0, data.readableBytes());
+        }
+    }
+
+    @Test
+    public void testForwardMatchesRawForward() {
+        final BrandPayload brand = new BrandPayload("TaterLib");
+        try (final FriendlyByteBuf body = new FriendlyByteBuf()) {
+            BrandPayload.STREAM_CODEC.encode(body, brand);
+            try (final BungeeCordPayload typed = BungeeCordPayload.ForwardAll(brand);
+                    final BungeeCordPayload raw =
+                            BungeeCordPayload.ForwardAll(brand.type().id(), body)) {
+                assertEquals(raw.data(), typed.data());
+            }
+        }
+    }
+
+    @Test
+    public void testForwardResponse() {
+        final BrandPayload brand = new BrandPayload("TaterLib");
+        try (final BungeeCordPayload forward = BungeeCordPayload.Forward("lobby", brand)) {
+            forward.data().readUtf(); // Destination isn't echoed back to the receiver
+            final CustomPacketPayload.Raw response = SubChannel.Forward.response(forward);
+            try (response) {
+                assertEquals(brand.type().id(), response.id());
+                assertEquals(brand, BrandPayload.STREAM_CODEC.decode(response.data()));
+            }
+        }
+    }
+}
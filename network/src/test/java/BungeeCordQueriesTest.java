@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.neuralnexus.taterapi.network.FriendlyByteBuf;
+import dev.neuralnexus.taterapi.network.proxy.bungeecord.BungeeCordPayload;
+import dev.neuralnexus.taterapi.network.proxy.bungeecord.BungeeCordQueries;
+import dev.neuralnexus.taterapi.network.proxy.bungeecord.PlayerResponse;
+import dev.neuralnexus.taterapi.network.proxy.bungeecord.ServerResponse;
+import dev.neuralnexus.taterapi.network.proxy.bungeecord.SubChannel;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/** Tests for matching BungeeCord queries to their responses. */
+public class BungeeCordQueriesTest {
+    private final List<BungeeCordPayload> sent = new ArrayList<>();
+    private final BungeeCordQueries queries =
+            new BungeeCordQueries(this.sent::add, Duration.ofSeconds(5));
+
+    private static BungeeCordPayload response(final SubChannel subchannel, final Object... data) {
+        final FriendlyByteBuf buf = new FriendlyByteBuf();
+        for (final Object value : data) {
+            if (value instanceof String string) {
+                buf.writeUtf(string);
+            } else {
+                buf.writeInt((Integer) value);
+            }
+        }
+        return new BungeeCordPayload(subchannel, buf);
+    }
+
+    @Test
+    public void testCoalescesInFlightQueries() {
+        final CompletableFuture<ServerResponse<Integer>> first = this.queries.playerCountAll();
+        final CompletableFuture<ServerResponse<Integer>> second = this.queries.playerCountAll();
+        final CompletableFuture<ServerResponse<Integer>> lobby = this.queries.playerCount("lobby");
+        assertEquals(2, this.sent.size());
+
+        assertTrue(this.queries.handle(response(SubChannel.PlayerCount, "ALL", 42)));
+        assertEquals(new ServerResponse<>("ALL", 42), first.join());
+        assertEquals(new ServerResponse<>("ALL", 42), second.join());
+        assertFalse(lobby.isDone());
+
+        // Answered queries are sent again
+        this.queries.playerCountAll();
+        assertEquals(3, this.sent.size());
+    }
+
+    @Test
+    public void testMatchesPlayersIgnoringCase() {
+        final CompletableFuture<PlayerResponse<String>> server =
+                this.queries.getPlayerServer("notch");
+        assertTrue(this.queries.handle(response(SubChannel.GetPlayerServer, "Notch", "lobby")));
+        assertEquals(new PlayerResponse<>("Notch", "lobby"), server.join());
+    }
+
+    @Test
+    public void testListResponses() {
+        final CompletableFuture<List<String>> servers = this.queries.getServers();
+        final CompletableFuture<ServerResponse<List<String>>> players =
+                this.queries.playerList("lobby");
+        this.queries.handle(response(SubChannel.GetServers, "lobby, survival, creative"));
+        this.queries.handle(response(SubChannel.PlayerList, "lobby", ""));
+        assertEquals(List.of("lobby", "survival", "creative"), servers.join());
+        assertEquals(List.of(), players.join().value());
+    }
+
+    @Test
+    public void testUnsolicitedResponse() {
+        assertFalse(this.queries.handle(response(SubChannel.GetServer, "lobby")));
+        this.queries.getServer();
+        assertFalse(this.queries.handle(response(SubChannel.PlayerCount, "lobby", 1)));
+    }
+
+    @Test
+    public void testTimeoutAndCancel() {
+        final BungeeCordQueries queries = new BungeeCordQueries(p -> {}, Duration.ofMillis(10));
+        final ExecutionException timeout =
+                assertThrows(ExecutionException.class, () -> queries.getServer().get());
+        assertInstanceOf(TimeoutException.class, timeout.getCause());
+        // The timed out query no longer coalesces with new ones
+        final CompletableFuture<String> next = queries.getServer();
+        assertFalse(next.isDone());
+
+        queries.cancelAll();
+        assertTrue(next.isCompletedExceptionally());
+    }
+
+    @Test
+    public void testUnmatchedResponseStaysReadable() {
+        this.queries.playerCount("lobby");
+        final BungeeCordPayload other = response(SubChannel.PlayerCount, "survival", 7);
+        assertFalse(this.queries.handle(other));
+        assertEquals(new ServerResponse<>("survival", 7), SubChannel.PlayerCount.response(other));
+
+        final BungeeCordPayload unrelated = response(SubChannel.GetServer, "lobby");
+        assertFalse(this.queries.handle(unrelated));
+        assertEquals("lobby", unrelated.data().readUtf());
+    }
+}
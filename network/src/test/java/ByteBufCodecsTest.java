@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import dev.neuralnexus.taterapi.network.FriendlyByteBuf;
+import dev.neuralnexus.taterapi.network.codec.ByteBufCodecs;
+import dev.neuralnexus.taterapi.network.codec.RecordCodecBuilder;
+import dev.neuralnexus.taterapi.network.codec.StreamCodec;
+
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.DecoderException;
+import io.netty.handler.codec.EncoderException;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+/** Tests for the {@link ByteBufCodecs} combinators. */
+public class ByteBufCodecsTest {
+    private record Entry(String name, OptionalLong time, int[] values, boolean flag) {}
+
+    private record Nested(int id, long seed, List<Entry> entries, Map<String, String> tags) {}
+
+    private static final StreamCodec<FriendlyByteBuf, Entry> ENTRY_CODEC =
+            RecordCodecBuilder.builder(MethodHandles.lookup(), FriendlyByteBuf.class, Entry.class)
+                    .add(ByteBufCodecs.STRING_UTF8)
+                    .add(ByteBufCodecs.optionalLong(ByteBufCodecs.VAR_LONG))
+                    .add(ByteBufCodecs.intArray(ByteBufCodecs.VAR_INT, 16))
+                    .addBoolean(ByteBufCodecs.BOOL)
+                    .build();
+    private static final StreamCodec<FriendlyByteBuf, Nested> NESTED_CODEC =
+            RecordCodecBuilder.builder(MethodHandles.lookup(), FriendlyByteBuf.class, Nested.class)
+                    .addInt(ByteBufCodecs.VAR_INT)
+                    .addLong(ByteBufCodecs.LONG)
+                    .add(ByteBufCodecs.list(ENTRY_CODEC, 8))
+                    .add(
+                            ByteBufCodecs.mapOf(
+                                    ByteBufCodecs.stringUtf8(16), ByteBufCodecs.STRING_UTF8, 8))
+                    .build();
+
+    private static FriendlyByteBuf buffer() {
+        return new FriendlyByteBuf(Unpooled.buffer());
+    }
+
+    @Test
+    public void testNestedRoundTrip() {
+        final Nested nested =
+                new Nested(
+                        7,
+                        -1L,
+                        List.of(
+                                new Entry("a", OptionalLong.of(1L << 40), new int[] {1, -1}, true),
+                                new Entry("b", OptionalLong.empty(), new int[0], false)),
+                        Map.of("k", "v", "x", "y"));
+        final FriendlyByteBuf buf = buffer();
+        NESTED_CODEC.encode(buf, nested);
+        final Nested decoded = NESTED_CODEC.decode(buf);
+        assertFalse(buf.isReadable());
+        assertEquals(nested.id(), decoded.id());
+        assertEquals(nested.seed(), decoded.seed());
+        assertEquals(nested.tags(), decoded.tags());
+        assertEquals(nested.entries().size(), decoded.entries().size());
+        for (int i = 0; i < nested.entries().size(); i++) {
+            final Entry expected = nested.entries().get(i);
+            final Entry actual = decoded.entries().get(i);
+            assertEquals(expected.name(), actual.name());
+            assertEquals(expected.time(), actual.time());
+            assertArrayEquals(expected.values(), actual.values());
+            assertEquals(expected.flag(), actual.flag());
+        }
+    }
+
+    @Test
+    public void testMatchesFriendlyByteBufEncoding() {
+        final FriendlyByteBuf expected = buffer();
+        expected.writeOptional(Optional.of("tater"), FriendlyByteBuf::writeUtf);
+        expected.writeOptional(Optional.<String>empty(), FriendlyByteBuf::writeUtf);
+        expected.writeVarInt(2).writeVarInt(3).writeVarInt(300);
+
+        final FriendlyByteBuf actual = buffer();
+        final StreamCodec<FriendlyByteBuf, Optional<String>> optional =
+                ByteBufCodecs.optional(ByteBufCodecs.STRING_UTF8);
+        optional.encode(actual, Optional.of("tater"));
+        optional.encode(actual, Optional.empty());
+        ByteBufCodecs.list(ByteBufCodecs.VAR_INT.boxed(), 2)
+                .encode(actual, new LinkedList<>(List.of(3, 300)));
+        assertEquals(expected, actual);
+
+        final StreamCodec<FriendlyByteBuf, OptionalInt> optionalInt =
+                ByteBufCodecs.optionalInt(ByteBufCodecs.INT);
+        optionalInt.encode(actual.clear(), OptionalInt.of(5));
+        assertEquals(OptionalInt.of(5), optionalInt.decode(actual));
+    }
+
+    @Test
+    public void testEnforcesMaxSize() {
+        final StreamCodec<FriendlyByteBuf, long[]> codec =
+                ByteBufCodecs.longArray(ByteBufCodecs.VAR_LONG, 2);
+        assertThrows(EncoderException.class, () -> codec.encode(buffer(), new long[3]));
+        final FriendlyByteBuf tooMany = buffer().writeVarInt(3);
+        tooMany.writeZero(3);
+        assertThrows(DecoderException.class, () -> codec.decode(tooMany));
+        // A count larger than the remaining bytes is rejected before allocating
+        final StreamCodec<FriendlyByteBuf, int[]> large =
+                ByteBufCodecs.intArray(ByteBufCodecs.VAR_INT, Integer.MAX_VALUE);
+        assertThrows(DecoderException.class, () -> large.decode(buffer().writeVarInt(1 << 28)));
+    }
+}
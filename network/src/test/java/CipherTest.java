@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import dev.neuralnexus.taterapi.network.CipherDecoder;
+import dev.neuralnexus.taterapi.network.CipherEncoder;
+import dev.neuralnexus.taterapi.network.Crypt;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+/** Tests for the AES/CFB8 cipher stage. */
+public class CipherTest {
+    private static final SecretKey KEY =
+            new SecretKeySpec(
+                    new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16},
+                    Crypt.SYMMETRIC_ALGORITHM);
+
+    private static byte[] bytes(final int size) {
+        final byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static ByteBuf heap(final byte[] bytes) {
+        return Unpooled.wrappedBuffer(bytes.clone());
+    }
+
+    private static ByteBuf direct(final byte[] bytes) {
+        return PooledByteBufAllocator.DEFAULT.directBuffer(bytes.length).writeBytes(bytes);
+    }
+
+    private static ByteBuf composite(final byte[] bytes) {
+        final CompositeByteBuf composite = Unpooled.compositeBuffer();
+        final int half = bytes.length / 2;
+        composite.addComponent(true, Unpooled.wrappedBuffer(bytes, 0, half));
+        composite.addComponent(true, direct(bytes).skipBytes(half));
+        return composite;
+    }
+
+    @Test
+    public void testMatchesCipher() throws Exception {
+        final Cipher reference = Crypt.getCipher(Cipher.ENCRYPT_MODE, KEY);
+        final EmbeddedChannel channel =
+                new EmbeddedChannel(new CipherEncoder(Crypt.getCipher(Cipher.ENCRYPT_MODE, KEY)));
+        // The stream state carries over between packets and buffer types
+        for (final int size : new int[] {1, 17, 1000, 20_000}) {
+            final byte[] bytes = bytes(size);
+            for (final ByteBuf buf : new ByteBuf[] {heap(bytes), direct(bytes), composite(bytes)}) {
+                channel.writeOutbound(buf);
+                final ByteBuf encrypted = channel.readOutbound();
+                assertArrayEquals(reference.update(bytes), ByteBufUtil.getBytes(encrypted));
+                encrypted.release();
+            }
+        }
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        final EmbeddedChannel encoder =
+                new EmbeddedChannel(new CipherEncoder(Crypt.getCipher(Cipher.ENCRYPT_MODE, KEY)));
+        final EmbeddedChannel decoder =
+                new EmbeddedChannel(new CipherDecoder(Crypt.getCipher(Cipher.DECRYPT_MODE, KEY)));
+        for (final int size : new int[] {1, 255, 8192, 8193, 50_000}) {
+            final byte[] bytes = bytes(size);
+            for (final ByteBuf buf : new ByteBuf[] {heap(bytes), direct(bytes), composite(bytes)}) {
+                encoder.writeOutbound(buf);
+                final ByteBuf encrypted = encoder.readOutbound();
+                // Feed the decoder the opposite kind of buffer to the one the encoder produced
+                final ByteBuf input =
+                        encrypted.hasArray()
+                                ? direct(ByteBufUtil.getBytes(encrypted))
+                                : heap(ByteBufUtil.getBytes(encrypted));
+                encrypted.release();
+                decoder.writeInbound(input);
+                final ByteBuf decrypted = decoder.readInbound();
+                assertEquals(Unpooled.wrappedBuffer(bytes), decrypted);
+                decrypted.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.neuralnexus.taterapi.network.CompressionDecoder;
+import dev.neuralnexus.taterapi.network.CompressionEncoder;
+import dev.neuralnexus.taterapi.network.FriendlyByteBuf;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.DecoderException;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.zip.Deflater;
+
+/** Tests for the packet compression stage. */
+public class CompressionTest {
+    private static final int THRESHOLD = 256;
+
+    private static ByteBuf frame(final int size, final boolean direct) {
+        final ByteBuf buf =
+                direct ? PooledByteBufAllocator.DEFAULT.directBuffer(size) : Unpooled.buffer(size);
+        for (int i = 0; i < size; i++) {
+            buf.writeByte(i % 31 == 0 ? i : 'a' + i % 7);
+        }
+        return buf;
+    }
+
+    @Test
+    public void testRoundTrip() {
+        for (final boolean direct : new boolean[] {false, true}) {
+            for (final int size : new int[] {0, 1, THRESHOLD - 1, THRESHOLD, 4096, 100_000}) {
+                final EmbeddedChannel encoder =
+                        new EmbeddedChannel(new CompressionEncoder(THRESHOLD));
+                final EmbeddedChannel decoder =
+                        new EmbeddedChannel(new CompressionDecoder(THRESHOLD, true));
+                final ByteBuf expected = frame(size, direct);
+
+                assertTrue(encoder.writeOutbound(expected.retainedDuplicate()));
+                final ByteBuf compressed = encoder.readOutbound();
+                final int header = new FriendlyByteBuf(compressed.duplicate()).readVarInt();
+                assertEquals(size < THRESHOLD ? 0 : size, header);
+                if (size >= 4096) {
+                    assertTrue(compressed.readableBytes() < size);
+                }
+
+                assertTrue(decoder.writeInbound(compressed));
+                final ByteBuf actual = decoder.readInbound();
+                assertEquals(expected, actual);
+                actual.release();
+                expected.release();
+                assertFalse(encoder.finish());
+                assertFalse(decoder.finish());
+            }
+        }
+    }
+
+    @Test
+    public void testCompressionLevels() {
+        final ByteBuf expected = frame(8192, false);
+        for (final int level : new int[] {Deflater.BEST_SPEED, Deflater.BEST_COMPRESSION}) {
+            final EmbeddedChannel channel =
+                    new EmbeddedChannel(
+                            new CompressionDecoder(THRESHOLD, true),
+                            new CompressionEncoder(THRESHOLD, level));
+            channel.writeOutbound(expected.retainedDuplicate());
+            final ByteBuf compressed = channel.readOutbound();
+            channel.writeInbound(compressed);
+            final ByteBuf actual = channel.readInbound();
+            assertEquals(expected, actual);
+            actual.release();
+        }
+        expected.release();
+    }
+
+    @Test
+    public void testRejectsCompressedBelowThreshold() {
+        final EmbeddedChannel encoder = new EmbeddedChannel(new CompressionEncoder(16));
+        encoder.writeOutbound(frame(64, false));
+        final ByteBuf compressed = encoder.readOutbound();
+        final EmbeddedChannel decoder =
+                new EmbeddedChannel(new CompressionDecoder(THRESHOLD, true));
+        assertThrows(DecoderException.class, () -> decoder.writeInbound(compressed));
+    }
+
+    @Test
+    public void testRejectsLengthMismatch() {
+        final EmbeddedChannel encoder = new EmbeddedChannel(new CompressionEncoder(THRESHOLD));
+        encoder.writeOutbound(frame(1024, false));
+        final ByteBuf compressed = encoder.readOutbound();
+        final FriendlyByteBuf tampered = new FriendlyByteBuf(Unpooled.buffer());
+        final FriendlyByteBuf source = new FriendlyByteBuf(compressed);
+        source.readVarInt();
+        tampered.writeVarInt(2048).writeBytes(source);
+        compressed.release();
+
+        final EmbeddedChannel decoder =
+                new EmbeddedChannel(new CompressionDecoder(THRESHOLD, true));
+        assertThrows(DecoderException.class, () -> decoder.writeInbound(tampered.unwrap()));
+    }
+}
@@ -0,0 +1,227 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.neuralnexus.taterapi.network.FriendlyByteBuf;
+import dev.neuralnexus.taterapi.network.PayloadRegistry;
+import dev.neuralnexus.taterapi.network.codec.StreamCodec;
+import dev.neuralnexus.taterapi.network.protocol.PayloadType;
+import dev.neuralnexus.taterapi.network.protocol.login.ClientboundCustomQueryPacket;
+import dev.neuralnexus.taterapi.network.protocol.login.CustomQueryTransactions;
+import dev.neuralnexus.taterapi.network.protocol.login.ServerboundCustomQueryAnswerPacket;
+import dev.neuralnexus.taterapi.network.protocol.login.custom.CustomQueryAnswerPayload;
+import dev.neuralnexus.taterapi.network.protocol.login.custom.CustomQueryPayload;
+
+import io.netty.buffer.Unpooled;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/** Tests for tracking login query transactions. */
+public class CustomQueryTransactionsTest {
+    private static final CustomQueryPayload QUERY =
+            new CustomQueryPayload.Raw("test:query", new FriendlyByteBuf(Unpooled.EMPTY_BUFFER));
+
+    private record Answer(String value) implements CustomQueryAnswerPayload {
+        @Override
+        public Type<? extends CustomQueryAnswerPayload> type() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    @Test
+    public void testAnswer() {
+        final CustomQueryTransactions transactions =
+                new CustomQueryTransactions(Duration.ofMinutes(1));
+        final AtomicReference<ClientboundCustomQueryPacket> sent = new AtomicReference<>();
+        final CompletableFuture<ServerboundCustomQueryAnswerPacket> future =
+                transactions.query(QUERY, sent::set);
+        final int id = sent.get().transactionId();
+        assertSame(QUERY, sent.get().payload());
+
+        final ServerboundCustomQueryAnswerPacket answer =
+                new ServerboundCustomQueryAnswerPacket(id);
+        assertFalse(transactions.handle(new ServerboundCustomQueryAnswerPacket(id + 1)));
+        assertTrue(transactions.handle(answer));
+        assertSame(answer, future.join());
+        assertFalse(transactions.handle(answer));
+
+        transactions.query(QUERY, sent::set);
+        assertNotEquals(id, sent.get().transactionId());
+        assertEquals(1, transactions.pending());
+    }
+
+    @Test
+    public void testAnswerCodec() {
+        final CustomQueryTransactions transactions =
+                new CustomQueryTransactions(Duration.ofMinutes(1));
+        final AtomicReference<ClientboundCustomQueryPacket> sent = new AtomicReference<>();
+        final StreamCodec<FriendlyByteBuf, Answer> codec =
+                StreamCodec.of(
+                        (buf, answer) -> buf.writeUtf(answer.value()),
+                        buf -> new Answer(buf.readUtf()));
+        final CompletableFuture<ServerboundCustomQueryAnswerPacket> future =
+                transactions.query(QUERY, codec, sent::set);
+
+        final FriendlyByteBuf data = new FriendlyByteBuf(Unpooled.buffer()).writeUtf("tater");
+        assertTrue(
+                transactions.handle(
+                        new ServerboundCustomQueryAnswerPacket(
+                                sent.get().transactionId(),
+                                new CustomQueryAnswerPayload.Raw(data))));
+        assertEquals(new Answer("tater"), future.join().payload());
+        assertEquals(0, data.refCnt());
+    }
+
+    @Test
+    public void testTimeoutAndCancel() throws InterruptedException {
+        final CustomQueryTransactions transactions =
+                new CustomQueryTransactions(Duration.ofMillis(10));
+        final AtomicReference<ClientboundCustomQueryPacket> sent = new AtomicReference<>();
+        final CompletableFuture<ServerboundCustomQueryAnswerPacket> expired =
+                transactions.query(QUERY, sent::set);
+        final int id = sent.get().transactionId();
+        Thread.sleep(20);
+        assertEquals(1, transactions.sweep());
+        final ExecutionException timeout = assertThrows(ExecutionException.class, expired::get);
+        assertInstanceOf(TimeoutException.class, timeout.getCause());
+        assertFalse(transactions.handle(new ServerboundCustomQueryAnswerPacket(id)));
+        assertEquals(0, transactions.pending());
+
+        final CustomQueryTransactions other = new CustomQueryTransactions(Duration.ofMinutes(1));
+        final CompletableFuture<ServerboundCustomQueryAnswerPacket> pending =
+                other.query(QUERY, p -> {});
+        other.cancelAll();
+        assertThrows(CancellationException.class, pending::join);
+        assertEquals(0, other.pending());
+    }
+
+    @Test
+    public void testCapacity() {
+        final CustomQueryTransactions transactions =
+                new CustomQueryTransactions(Duration.ofMinutes(1), 4);
+        final List<ClientboundCustomQueryPacket> sent = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            transactions.query(QUERY, sent::add);
+        }
+        assertThrows(IllegalStateException.class, () -> transactions.query(QUERY, sent::add));
+        // Answering any query frees its slot, even while older ones are still waiting
+        transactions.handle(new ServerboundCustomQueryAnswerPacket(sent.get(2).transactionId()));
+        transactions.query(QUERY, sent::add);
+        assertEquals(4, transactions.pending());
+        assertEquals(2, sent.get(4).transactionId() & 3);
+    }
+
+    @Test
+    public void testConcurrentHandshakes() throws InterruptedException {
+        final CustomQueryTransactions transactions =
+                new CustomQueryTransactions(Duration.ofMinutes(1));
+        final int threads = 8;
+        final int perThread = 20_000;
+        final List<CompletableFuture<ServerboundCustomQueryAnswerPacket>> futures =
+                new ArrayList<>();
+        final List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            final List<CompletableFuture<ServerboundCustomQueryAnswerPacket>> own =
+                    new ArrayList<>();
+            final Thread worker =
+                    new Thread(
+                            () -> {
+                                for (int i = 0; i < perThread; i++) {
+                                    // The client answers straight away
+                                    own.add(
+                                            transactions.query(
+                                                    QUERY,
+                                                    packet ->
+                                                            transactions.handle(
+                                                                    new ServerboundCustomQueryAnswerPacket(
+                                                                            packet
+                                                                                    .transactionId()))));
+                                }
+                                synchronized (futures) {
+                                    futures.addAll(own);
+                                }
+                            });
+            workers.add(worker);
+            worker.start();
+        }
+        for (final Thread worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(30));
+        }
+        assertEquals(threads * perThread, futures.size());
+        for (final CompletableFuture<ServerboundCustomQueryAnswerPacket> future : futures) {
+            assertTrue(future.isDone() && !future.isCompletedExceptionally());
+        }
+        assertEquals(0, transactions.pending());
+    }
+
+    @Test
+    public void testSlowClientDoesNotBlock() {
+        final CustomQueryTransactions transactions =
+                new CustomQueryTransactions(Duration.ofMinutes(1), 8);
+        final AtomicReference<ClientboundCustomQueryPacket> sent = new AtomicReference<>();
+        final CompletableFuture<ServerboundCustomQueryAnswerPacket> slow =
+                transactions.query(QUERY, sent::set);
+        for (int i = 0; i < 1000; i++) {
+            transactions.query(
+                    QUERY,
+                    packet ->
+                            transactions.handle(
+                                    new ServerboundCustomQueryAnswerPacket(
+                                            packet.transactionId())));
+        }
+        assertFalse(slow.isDone());
+        assertTrue(
+                transactions.handle(
+                        new ServerboundCustomQueryAnswerPacket(sent.get().transactionId())));
+    }
+
+    @Test
+    public void testSkipsRegisteredAnswerIds() {
+        final CustomQueryAnswerPayload.Type<CustomQueryAnswerPayload> type =
+                PayloadType.answer(
+                        CustomQueryAnswerPayload.class, CustomQueryAnswerPayload.DEFAULT_CODEC);
+        PayloadRegistry.batch(batch -> batch.register(type, 0).register(type, 1));
+        try {
+            final CustomQueryTransactions transactions =
+                    new CustomQueryTransactions(Duration.ofMinutes(1));
+            final AtomicReference<ClientboundCustomQueryPacket> sent = new AtomicReference<>();
+            final CompletableFuture<ServerboundCustomQueryAnswerPacket> future =
+                    transactions.query(
+                            QUERY,
+                            StreamCodec.of(
+                                    (buf, answer) -> buf.writeUtf(answer.value()),
+                                    buf -> new Answer(buf.readUtf())),
+                            sent::set);
+            final int id = sent.get().transactionId();
+            assertEquals(2, id);
+
+            // Decoded off the wire the way PacketDecoder would, then handed to the tracker
+            final FriendlyByteBuf wire = new FriendlyByteBuf(Unpooled.buffer());
+            wire.writeVarInt(id).writeBoolean(true).writeUtf("tater");
+            assertTrue(
+                    transactions.handle(
+                            ServerboundCustomQueryAnswerPacket.STREAM_CODEC.decode(wire)));
+            assertEquals(new Answer("tater"), future.join().payload());
+        } finally {
+            PayloadRegistry.batch(batch -> batch.unregisterQueryAnswer(0).unregisterQueryAnswer(1));
+        }
+    }
+}
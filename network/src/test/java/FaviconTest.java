@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.JsonObject;
+
+import dev.neuralnexus.taterapi.network.protocol.status.ServerStatus;
+import dev.neuralnexus.taterapi.network.protocol.status.ServerStatus.Favicon;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.Random;
+
+/** Tests for the status favicon encoding. */
+public class FaviconTest {
+    private static final String PREFIX = "data:image/png;base64,";
+
+    @Test
+    public void testRoundTrip() {
+        for (int size = 0; size < 64; size++) {
+            final byte[] icon = new byte[size];
+            new Random(size).nextBytes(icon);
+            final String encoded = Favicon.CODEC.encode(new Favicon(icon)).result().orElseThrow();
+            assertEquals(PREFIX + Base64.getEncoder().encodeToString(icon), encoded);
+            assertArrayEquals(
+                    icon, Favicon.CODEC.decode(encoded).result().orElseThrow().iconBytes());
+        }
+    }
+
+    @Test
+    public void testDecodeLineBreaks() {
+        final byte[] icon = new byte[300];
+        new Random(1).nextBytes(icon);
+        final String wrapped = Base64.getMimeEncoder(76, new byte[] {'\n'}).encodeToString(icon);
+        assertTrue(wrapped.contains("\n"));
+        assertArrayEquals(
+                icon, Favicon.CODEC.decode(PREFIX + wrapped).result().orElseThrow().iconBytes());
+
+        // Breaks that split groups of four, and a trailing one
+        for (int size = 1; size < 20; size++) {
+            final byte[] small = Arrays.copyOf(icon, size);
+            final String base64 = Base64.getEncoder().encodeToString(small);
+            final String broken = base64.replaceAll("(.{7})", "$1\n") + "\n";
+            assertArrayEquals(
+                    small,
+                    Favicon.CODEC.decode(PREFIX + broken).result().orElseThrow().iconBytes());
+        }
+    }
+
+    @Test
+    public void testDecodeMalformed() {
+        for (final String malformed :
+                new String[] {
+                    "data:image/jpeg;base64,AAAA", PREFIX + "A", PREFIX + "AA=A", PREFIX + "A*AA"
+                }) {
+            assertFalse(Favicon.CODEC.decode(malformed).isSuccess(), malformed);
+        }
+    }
+
+    @Test
+    public void testEncodingCached() {
+        final byte[] icon = new byte[4096];
+        new Random(2).nextBytes(icon);
+        final Favicon favicon = new Favicon(icon);
+        assertSame(favicon.encoded(), new Favicon(icon.clone()).encoded());
+        assertEquals(favicon, new Favicon(icon.clone()));
+    }
+
+    @Test
+    public void testServerStatusJson() {
+        final ServerStatus status =
+                new ServerStatus(
+                        new JsonObject(),
+                        Optional.empty(),
+                        Optional.empty(),
+                        Optional.of(new Favicon(new byte[] {1, 2, 3})),
+                        false);
+        final String json = ServerStatus.CODEC.encode(status).result().orElseThrow();
+        assertTrue(json.contains("\"favicon\":\"" + PREFIX + "AQID\""), json);
+        assertEquals(
+                status.favicon(), ServerStatus.CODEC.decode(json).result().orElseThrow().favicon());
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.neuralnexus.taterapi.network.FriendlyByteBuf;
+import dev.neuralnexus.taterapi.network.protocol.common.custom.BrandPayload;
+import dev.neuralnexus.taterapi.network.protocol.common.custom.CustomPacketPayload;
+import dev.neuralnexus.taterapi.network.proxy.bungeecord.BungeeCordPayload;
+import dev.neuralnexus.taterapi.network.proxy.bungeecord.ForwardBatcher;
+import dev.neuralnexus.taterapi.network.proxy.bungeecord.SubChannel;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Tests for batching BungeeCord Forward messages. */
+public class ForwardBatcherTest {
+    private final List<BungeeCordPayload> sent = new ArrayList<>();
+
+    private static ByteBuf message(final String text) {
+        return Unpooled.copiedBuffer(text, StandardCharsets.UTF_8);
+    }
+
+    /** What the receiving server sees, as "channel:message" */
+    private List<String> receive() {
+        final List<String> received = new ArrayList<>();
+        for (final BungeeCordPayload payload : this.sent) {
+            payload.data().readUtf(); // Destination isn't echoed back to the receiver
+            final CustomPacketPayload.Raw forwarded = SubChannel.Forward.response(payload);
+            final boolean batch =
+                    ForwardBatcher.unpack(
+                            forwarded,
+                            raw ->
+                                    received.add(
+                                            raw.id()
+                                                    + ":"
+                                                    + raw.data().toString(StandardCharsets.UTF_8)));
+            if (!batch) {
+                received.add(
+                        "raw "
+                                + forwarded.id()
+                                + ":"
+                                + forwarded.data().toString(StandardCharsets.UTF_8));
+            }
+            payload.close();
+        }
+        this.sent.clear();
+        return received;
+    }
+
+    @Test
+    public void testBatchesPerDestinationAndChannel() {
+        final ForwardBatcher batcher =
+                new ForwardBatcher(this.sent::add, 1024, Duration.ofSeconds(1));
+        batcher.forward("ALL", "a", message("1"));
+        batcher.forward("ALL", "b", message("2"));
+        batcher.forward("ALL", "a", message("3"));
+        batcher.forward("lobby", "a", message("4"));
+        assertTrue(this.sent.isEmpty());
+
+        batcher.flush();
+        assertEquals(3, this.sent.size());
+        assertEquals(List.of("a:1", "a:3", "b:2", "a:4"), this.receive());
+    }
+
+    @Test
+    public void testSizeBudget() {
+        final ForwardBatcher batcher =
+                new ForwardBatcher(this.sent::add, 16, Duration.ofSeconds(1));
+        batcher.forward("ALL", "a", message("12345"));
+        batcher.forward("ALL", "a", message("67890"));
+        assertEquals(1, this.sent.size());
+        // Too big for any batch, so it goes out on its own after the queued one
+        batcher.forward("ALL", "a", message("this one is far too long"));
+        assertEquals(
+                List.of("a:12345", "a:67890", "raw a:this one is far too long"), this.receive());
+        batcher.close();
+        assertTrue(this.sent.isEmpty());
+    }
+
+    @Test
+    public void testLatencyBudget() {
+        final ForwardBatcher batcher = new ForwardBatcher(this.sent::add, 1024, Duration.ZERO);
+        batcher.forward("ALL", "a", message("1"));
+        batcher.flushDue();
+        assertEquals(List.of("a:1"), this.receive());
+    }
+
+    @Test
+    public void testTypedPayloads() {
+        final ForwardBatcher batcher =
+                new ForwardBatcher(this.sent::add, 1024, Duration.ofSeconds(1));
+        batcher.forward("ALL", new BrandPayload("one"));
+        batcher.forward("ALL", new BrandPayload("two"));
+        batcher.flush();
+        assertEquals(1, this.sent.size());
+
+        final List<BrandPayload> received = new ArrayList<>();
+        final BungeeCordPayload payload = this.sent.get(0);
+        payload.data().readUtf();
+        ForwardBatcher.unpack(
+                SubChannel.Forward.response(payload),
+                raw -> received.add(BrandPayload.STREAM_CODEC.decode(raw.data())));
+        assertEquals(List.of(new BrandPayload("one"), new BrandPayload("two")), received);
+        assertFalse(
+                ForwardBatcher.unpack(
+                        new CustomPacketPayload.Raw(
+                                "a", new FriendlyByteBuf(Unpooled.EMPTY_BUFFER)),
+                        raw -> {}));
+    }
+}
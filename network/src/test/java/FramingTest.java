@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import dev.neuralnexus.taterapi.network.FriendlyByteBuf;
+import dev.neuralnexus.taterapi.network.PacketDecoder;
+import dev.neuralnexus.taterapi.network.PacketEncoder;
+import dev.neuralnexus.taterapi.network.Protocol;
+import dev.neuralnexus.taterapi.network.Varint21FrameDecoder;
+import dev.neuralnexus.taterapi.network.Varint21LengthFieldPrepender;
+import dev.neuralnexus.taterapi.network.protocol.PacketFlow;
+import dev.neuralnexus.taterapi.network.protocol.ping.ClientboundPongResponsePacket;
+import dev.neuralnexus.taterapi.network.protocol.ping.ServerboundPingRequestPacket;
+import dev.neuralnexus.taterapi.network.protocol.status.ServerboundStatusRequestPacket;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.DecoderException;
+import io.netty.handler.codec.TooLongFrameException;
+
+import org.junit.jupiter.api.Test;
+
+/** Tests for the VarInt frame decoder and packet pipeline stages. */
+public class FramingTest {
+    private static void frame(final FriendlyByteBuf out, final int id, final long body) {
+        out.writeVarInt(1 + Long.BYTES).writeVarInt(id).writeLong(body);
+    }
+
+    @Test
+    public void testSplitsFramesWithoutCopying() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new Varint21FrameDecoder());
+        final FriendlyByteBuf in = new FriendlyByteBuf(Unpooled.buffer());
+        frame(in, 0x01, 1L);
+        frame(in, 0x01, 2L);
+        in.writeVarInt(9).writeByte(0x01); // Partial third frame
+
+        final ByteBuf source = in.unwrap();
+        channel.writeInbound(source);
+        for (long expected = 1L; expected <= 2L; expected++) {
+            final ByteBuf frame = channel.readInbound();
+            assertEquals(1 + Long.BYTES, frame.readableBytes());
+            assertSame(source, frame.unwrap());
+            frame.skipBytes(1);
+            assertEquals(expected, frame.readLong());
+            frame.release();
+        }
+        assertNull(channel.readInbound());
+
+        channel.writeInbound(Unpooled.buffer().writeLong(3L));
+        final ByteBuf last = channel.readInbound();
+        assertEquals(1 + Long.BYTES, last.readableBytes());
+        last.release();
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    public void testRejectsOversizeFramesEarly() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new Varint21FrameDecoder(1024));
+        // Only the length prefix has arrived
+        final ByteBuf in = new FriendlyByteBuf(Unpooled.buffer()).writeVarInt(1025);
+        assertThrows(TooLongFrameException.class, () -> channel.writeInbound(in));
+    }
+
+    @Test
+    public void testDecodesPackets() {
+        final EmbeddedChannel channel =
+                new EmbeddedChannel(
+                        new Varint21FrameDecoder(),
+                        new PacketDecoder(PacketFlow.SERVERBOUND, Protocol.STATUS));
+        final FriendlyByteBuf in = new FriendlyByteBuf(Unpooled.buffer());
+        in.writeVarInt(1).writeVarInt(0x00);
+        frame(in, 0x01, 42L);
+        channel.writeInbound(in);
+
+        assertInstanceOf(ServerboundStatusRequestPacket.class, channel.readInbound());
+        assertEquals(new ServerboundPingRequestPacket(42L), channel.readInbound());
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    public void testRejectsTrailingBytes() {
+        final EmbeddedChannel channel =
+                new EmbeddedChannel(
+                        new Varint21FrameDecoder(),
+                        new PacketDecoder(PacketFlow.SERVERBOUND, Protocol.STATUS));
+        final FriendlyByteBuf in = new FriendlyByteBuf(Unpooled.buffer());
+        in.writeVarInt(2).writeVarInt(0x00).writeByte(0);
+        assertThrows(DecoderException.class, () -> channel.writeInbound(in));
+    }
+
+    @Test
+    public void testRoundTrip() {
+        final EmbeddedChannel server =
+                new EmbeddedChannel(
+                        new Varint21LengthFieldPrepender(),
+                        new PacketEncoder(PacketFlow.CLIENTBOUND, Protocol.STATUS));
+        final EmbeddedChannel client =
+                new EmbeddedChannel(
+                        new Varint21FrameDecoder(),
+                        new PacketDecoder(PacketFlow.CLIENTBOUND, Protocol.STATUS));
+
+        final ClientboundPongResponsePacket pong = new ClientboundPongResponsePacket(1234L);
+        server.writeOutbound(pong, pong);
+        ByteBuf out;
+        while ((out = server.readOutbound()) != null) {
+            client.writeInbound(out);
+        }
+        assertEquals(pong, client.readInbound());
+        assertEquals(pong, client.readInbound());
+        assertNull(client.readInbound());
+        assertFalse(server.finish());
+        assertFalse(client.finish());
+    }
+}
@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.neuralnexus.taterapi.network.FriendlyByteBuf;
+import dev.neuralnexus.taterapi.network.PayloadRegistry;
+import dev.neuralnexus.taterapi.network.metrics.LatencyHistogram;
+import dev.neuralnexus.taterapi.network.metrics.NetworkMetrics;
+import dev.neuralnexus.taterapi.network.metrics.TrafficStats;
+import dev.neuralnexus.taterapi.network.protocol.PacketFlow;
+import dev.neuralnexus.taterapi.network.protocol.PayloadType;
+import dev.neuralnexus.taterapi.network.protocol.common.custom.CustomPacketPayload;
+
+import io.netty.buffer.Unpooled;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/** Tests for the per packet type and per payload metrics. */
+public class NetworkMetricsTest {
+    private static final String ID = "test:metrics";
+
+    @BeforeEach
+    public void register() {
+        PayloadRegistry.register(
+                PayloadType.custom(CustomPacketPayload.class, ID)
+                        .flow(PacketFlow.BIDIRECTIONAL)
+                        .codec(CustomPacketPayload.codec(ID))
+                        .build(),
+                new PayloadRegistry.Mapping(ID));
+    }
+
+    @AfterEach
+    public void reset() {
+        NetworkMetrics.enabled(false);
+        NetworkMetrics.reset();
+        PayloadRegistry.unregisterCustom(ID);
+    }
+
+    private static void roundTrip() {
+        try (final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+                final CustomPacketPayload.Raw raw =
+                        new CustomPacketPayload.Raw(
+                                ID, new FriendlyByteBuf(Unpooled.buffer().writeLong(42)))) {
+            CustomPacketPayload.DEFAULT_CODEC.encode(buf, raw);
+            ((CustomPacketPayload.Raw) CustomPacketPayload.DEFAULT_CODEC.decode(buf)).close();
+        }
+    }
+
+    @Test
+    public void testDisabledRecordsNothing() {
+        roundTrip();
+        assertTrue(NetworkMetrics.snapshot(NetworkMetrics.Category.CUSTOM_PAYLOAD).isEmpty());
+    }
+
+    @Test
+    public void testPayloadCounts() {
+        NetworkMetrics.enabled(true);
+        roundTrip();
+        roundTrip();
+        final List<TrafficStats.Snapshot> stats =
+                NetworkMetrics.snapshot(NetworkMetrics.Category.CUSTOM_PAYLOAD);
+        assertEquals(1, stats.size());
+        final TrafficStats.Snapshot payload = stats.get(0);
+        assertEquals(ID, payload.name());
+        assertEquals(2, payload.encoded());
+        assertEquals(2, payload.decoded());
+        // The length prefixed id followed by the 8 byte body
+        assertEquals(2 * (13 + 8), payload.encodedBytes());
+        assertEquals(payload.encodedBytes(), payload.decodedBytes());
+        assertEquals(2, payload.encodeNanos().count());
+        assertEquals(2, payload.decodeNanos().count());
+    }
+
+    @Test
+    public void testUnregisteredIdsAreOther() {
+        NetworkMetrics.customPayload("test:unregistered").decoded(8, 0);
+        NetworkMetrics.customPayload(ID).decoded(8, 0);
+        final List<TrafficStats.Snapshot> stats =
+                NetworkMetrics.snapshot(NetworkMetrics.Category.CUSTOM_PAYLOAD);
+        assertEquals(2, stats.size());
+        assertTrue(stats.stream().anyMatch(s -> s.name().equals(NetworkMetrics.OTHER)));
+        assertTrue(stats.stream().anyMatch(s -> s.name().equals(ID)));
+    }
+
+    @Test
+    public void testIdsAreBounded() {
+        final int count = NetworkMetrics.MAX_ENTRIES + 10;
+        PayloadRegistry.batch(
+                batch -> {
+                    for (int i = 0; i < count; i++) {
+                        final String id = "test:" + i;
+                        batch.register(
+                                PayloadType.custom(CustomPacketPayload.class, id)
+                                        .flow(PacketFlow.BIDIRECTIONAL)
+                                        .codec(CustomPacketPayload.codec(id))
+                                        .build(),
+                                new PayloadRegistry.Mapping(id));
+                    }
+                });
+        try {
+            for (int i = 0; i < count; i++) {
+                NetworkMetrics.customPayload("test:" + i).decoded(i, 0);
+            }
+        } finally {
+            PayloadRegistry.batch(
+                    batch -> {
+                        for (int i = 0; i < count; i++) {
+                            batch.unregisterCustom("test:" + i);
+                        }
+                    });
+        }
+        final List<TrafficStats.Snapshot> stats =
+                NetworkMetrics.snapshot(NetworkMetrics.Category.CUSTOM_PAYLOAD);
+        assertEquals(NetworkMetrics.MAX_ENTRIES + 1, stats.size());
+        final TrafficStats.Snapshot other = stats.get(0);
+        assertEquals(NetworkMetrics.OTHER, other.name());
+        assertEquals(10, other.decoded());
+    }
+
+    @Test
+    public void testHistogramPrecision() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+        final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1000, snapshot.count());
+        assertEquals(500.5, snapshot.mean());
+        final long median = snapshot.percentile(50);
+        assertTrue(median >= 500 && median <= 500 * 1.25, "Median " + median);
+        final long max = snapshot.max();
+        assertTrue(max >= 1000 && max <= 1000 * 1.25, "Max " + max);
+        assertEquals(1, snapshot.percentile(0));
+
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.snapshot().max());
+    }
+}
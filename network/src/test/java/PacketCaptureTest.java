@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.neuralnexus.taterapi.network.PacketDecoder;
+import dev.neuralnexus.taterapi.network.PacketEncoder;
+import dev.neuralnexus.taterapi.network.Protocol;
+import dev.neuralnexus.taterapi.network.Varint21FrameDecoder;
+import dev.neuralnexus.taterapi.network.Varint21LengthFieldPrepender;
+import dev.neuralnexus.taterapi.network.capture.CapturedFrame;
+import dev.neuralnexus.taterapi.network.capture.PacketCapture;
+import dev.neuralnexus.taterapi.network.capture.PacketReplay;
+import dev.neuralnexus.taterapi.network.protocol.PacketFlow;
+import dev.neuralnexus.taterapi.network.protocol.ping.ClientboundPongResponsePacket;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/** Tests for packet capture and replay. */
+public class PacketCaptureTest {
+    @Test
+    public void testCaptureAndReplay(final @TempDir Path dir) throws IOException {
+        final Path file = dir.resolve("capture.bin");
+        try (final PacketCapture capture = PacketCapture.open(file, 1 << 16)) {
+            capture.start();
+            final EmbeddedChannel server =
+                    new EmbeddedChannel(
+                            new Varint21LengthFieldPrepender(),
+                            new PacketEncoder(PacketFlow.CLIENTBOUND, Protocol.STATUS));
+            final EmbeddedChannel client =
+                    new EmbeddedChannel(
+                            new Varint21FrameDecoder(),
+                            new PacketDecoder(PacketFlow.CLIENTBOUND, Protocol.STATUS));
+            server.writeOutbound(new ClientboundPongResponsePacket(1L));
+            server.writeOutbound(new ClientboundPongResponsePacket(2L));
+            ByteBuf out;
+            while ((out = server.readOutbound()) != null) {
+                client.writeInbound(out);
+            }
+            server.finishAndReleaseAll();
+            client.finishAndReleaseAll();
+        }
+        assertNull(PacketCapture.active());
+
+        final List<CapturedFrame> frames = PacketReplay.read(file);
+        // Each pong is captured once when encoded and once when decoded
+        assertEquals(4, frames.size());
+        for (final CapturedFrame frame : frames) {
+            assertEquals(PacketFlow.CLIENTBOUND, frame.flow());
+            assertEquals(Protocol.STATUS, frame.protocol());
+            assertEquals(9, frame.data().length);
+        }
+        assertArrayEquals(new byte[] {0x01, 0, 0, 0, 0, 0, 0, 0, 2}, frames.get(3).data());
+
+        final PacketReplay.Result result = PacketReplay.replay(frames, 10);
+        assertEquals(40, result.frames());
+        assertEquals(0, result.failures());
+        assertEquals(40 * 9, result.bytes());
+    }
+
+    @Test
+    public void testRingKeepsNewestFrames(final @TempDir Path dir) throws IOException {
+        final Path file = dir.resolve("ring.bin");
+        final int capacity = 4096;
+        try (final PacketCapture capture = PacketCapture.open(file, capacity)) {
+            final ByteBuf frame = Unpooled.buffer();
+            for (int i = 0; i < 1000; i++) {
+                frame.clear().writeInt(i).writeZero(i % 100);
+                capture.record(
+                        PacketFlow.SERVERBOUND,
+                        Protocol.LOGIN,
+                        i,
+                        frame,
+                        frame.readerIndex(),
+                        frame.readableBytes());
+            }
+            capture.record(PacketFlow.SERVERBOUND, Protocol.LOGIN, 0, frame, 0, capacity);
+            assertEquals(1, capture.dropped());
+        }
+
+        final List<CapturedFrame> frames = PacketReplay.read(file);
+        assertTrue(frames.size() > 10, "Only " + frames.size() + " frames");
+        int total = 0;
+        int expected = 1000 - frames.size();
+        long timestamp = 0;
+        for (final CapturedFrame frame : frames) {
+            final ByteBuf data = Unpooled.wrappedBuffer(frame.data());
+            assertEquals(expected, data.readInt());
+            assertEquals(expected, frame.connection());
+            assertEquals(4 + expected % 100, frame.data().length);
+            assertTrue(frame.timestampNanos() >= timestamp);
+            timestamp = frame.timestampNanos();
+            total += frame.data().length;
+            expected++;
+        }
+        assertTrue(total < capacity);
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import dev.neuralnexus.taterapi.meta.Constraint;
+import dev.neuralnexus.taterapi.meta.MetaAPI;
+import dev.neuralnexus.taterapi.meta.MinecraftVersion;
+import dev.neuralnexus.taterapi.meta.MinecraftVersions;
+import dev.neuralnexus.taterapi.network.PacketRegistry;
+import dev.neuralnexus.taterapi.network.Protocol;
+import dev.neuralnexus.taterapi.network.ProtocolSnapshot;
+import dev.neuralnexus.taterapi.network.protocol.PacketFlow;
+import dev.neuralnexus.taterapi.network.protocol.PacketTypes;
+import dev.neuralnexus.taterapi.network.protocol.handshake.ClientIntentionPacket;
+import dev.neuralnexus.taterapi.network.protocol.ping.ClientboundPongResponsePacket;
+import dev.neuralnexus.taterapi.network.protocol.status.ClientboundStatusResponsePacket;
+
+import org.junit.jupiter.api.Test;
+
+/** Tests for packet id and type lookups. */
+public class PacketRegistryTest {
+    @Test
+    public void testLookups() {
+        final Protocol status = Protocol.STATUS;
+        assertEquals(
+                PacketTypes.STATUS.CLIENTBOUND_STATUS_RESPONSE,
+                status.info(PacketFlow.CLIENTBOUND, 0x00));
+        assertEquals(
+                PacketTypes.STATUS.CLIENTBOUND_PONG_RESPONSE,
+                status.info(PacketFlow.CLIENTBOUND, 0x01));
+        assertEquals(
+                0x00, status.id(PacketFlow.CLIENTBOUND, ClientboundStatusResponsePacket.class));
+        assertEquals(0x01, status.id(PacketFlow.CLIENTBOUND, ClientboundPongResponsePacket.class));
+    }
+
+    @Test
+    public void testUnknown() {
+        final Protocol status = Protocol.STATUS;
+        assertNull(status.info(PacketFlow.CLIENTBOUND, 0x7F));
+        assertNull(status.info(PacketFlow.CLIENTBOUND, -1));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> status.id(PacketFlow.CLIENTBOUND, ClientIntentionPacket.class));
+    }
+
+    @Test
+    public void testFrozen() {
+        assertThrows(
+                IllegalStateException.class,
+                () ->
+                        Protocol.STATUS
+                                .getProtocolRegistry(PacketFlow.SERVERBOUND)
+                                .register(
+                                        PacketTypes.HANDSHAKING.CLIENT_INTENTION,
+                                        Protocol.map(0x02, MinecraftVersions.V7_2)));
+    }
+
+    @Test
+    public void testSnapshot() {
+        final ProtocolSnapshot snapshot = ProtocolSnapshot.current();
+        assertSame(MetaAPI.instance().version(), snapshot.version());
+        for (final Protocol protocol : Protocol.values()) {
+            for (final PacketFlow direction : PacketFlow.values()) {
+                assertSame(
+                        protocol.getProtocolRegistry(direction),
+                        snapshot.registry(protocol, direction));
+            }
+        }
+        assertEquals(
+                PacketTypes.STATUS.CLIENTBOUND_PONG_RESPONSE,
+                snapshot.info(Protocol.STATUS, PacketFlow.CLIENTBOUND, 0x01));
+    }
+
+    @Test
+    public void testMappingsMatchConstraints() {
+        final MinecraftVersion[] bounds = {
+            MinecraftVersions.UNKNOWN,
+            MinecraftVersions.V7_2,
+            MinecraftVersions.V13,
+            MinecraftVersions.V20_5,
+            MinecraftVersions.V21_6
+        };
+        for (final MinecraftVersion since : bounds) {
+            for (final MinecraftVersion until : bounds) {
+                assertEquals(
+                        Constraint.range(since, until).result(),
+                        new PacketRegistry.Mapping(0, since, until).matches(),
+                        since + " - " + until);
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import dev.neuralnexus.taterapi.network.FriendlyByteBuf;
+import dev.neuralnexus.taterapi.network.PayloadRegistry;
+import dev.neuralnexus.taterapi.network.protocol.PacketFlow;
+import dev.neuralnexus.taterapi.network.protocol.PayloadCodecCache;
+import dev.neuralnexus.taterapi.network.protocol.PayloadType;
+import dev.neuralnexus.taterapi.network.protocol.common.custom.BrandPayload;
+import dev.neuralnexus.taterapi.network.protocol.common.custom.CustomPacketPayload;
+import dev.neuralnexus.taterapi.network.protocol.login.custom.CustomQueryAnswerPayload;
+
+import io.netty.buffer.Unpooled;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/** Tests for the PayloadRegistry and its codec cache. */
+public class PayloadRegistryTest {
+    private static CustomPacketPayload.Type<CustomPacketPayload> custom(final String id) {
+        return PayloadType.custom(CustomPacketPayload.class, id)
+                .flow(PacketFlow.BIDIRECTIONAL)
+                .codec(CustomPacketPayload.DEFAULT_CODEC)
+                .build();
+    }
+
+    @Test
+    public void testBatchIsAtomic() {
+        final CustomPacketPayload.Type<CustomPacketPayload> first = custom("test:first");
+        final CustomPacketPayload.Type<CustomPacketPayload> second = custom("test:second");
+        PayloadRegistry.batch(
+                batch ->
+                        batch.register(first, new PayloadRegistry.Mapping("test:first"))
+                                .register(second, new PayloadRegistry.Mapping("test:second")));
+        assertSame(first, PayloadRegistry.getCustom("test:first"));
+        assertSame(second, PayloadRegistry.getCustom("test:second"));
+
+        assertThrows(
+                IllegalStateException.class,
+                () ->
+                        PayloadRegistry.batch(
+                                batch -> {
+                                    batch.unregisterCustom("test:first");
+                                    throw new IllegalStateException();
+                                }));
+        assertSame(first, PayloadRegistry.getCustom("test:first"));
+
+        PayloadRegistry.batch(
+                batch -> batch.unregisterCustom("test:first").unregisterCustom("test:second"));
+        assertNull(PayloadRegistry.getCustom("test:first"));
+        assertNull(PayloadRegistry.getCustom("test:second"));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testAnswerTransactionIds() {
+        final CustomQueryAnswerPayload.Type<CustomQueryAnswerPayload> type =
+                PayloadType.answer(
+                        CustomQueryAnswerPayload.class, CustomQueryAnswerPayload.DEFAULT_CODEC);
+        final int[] ids = {0, 1, -1, 127, 128, 1 << 20, Integer.MIN_VALUE, Integer.MAX_VALUE};
+        final int version = PayloadRegistry.version();
+        for (final int id : ids) {
+            PayloadRegistry.register(type, id);
+        }
+        assertEquals(version, PayloadRegistry.version());
+        for (final int id : ids) {
+            assertSame(type, PayloadRegistry.getAnswer(id));
+        }
+        assertNull(PayloadRegistry.getAnswer(2));
+        assertThrows(IllegalArgumentException.class, () -> PayloadRegistry.register(type, 128));
+        for (final int id : ids) {
+            PayloadRegistry.unregisterQueryAnswer(id);
+            assertNull(PayloadRegistry.getAnswer(id));
+        }
+        assertEquals(version, PayloadRegistry.version());
+
+        PayloadRegistry.batch(batch -> batch.register(type, 5));
+        assertThrows(IllegalArgumentException.class, () -> PayloadRegistry.register(type, 5));
+        PayloadRegistry.unregisterQueryAnswer(5);
+        assertNull(PayloadRegistry.getAnswer(5));
+    }
+
+    @Test
+    public void testCodecCacheFollowsRegistry() {
+        final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        buf.writeUtf("test:cached").writeUtf("hello");
+        final CustomPacketPayload.Raw raw =
+                assertInstanceOf(
+                        CustomPacketPayload.Raw.class,
+                        CustomPacketPayload.DEFAULT_CODEC.decode(buf.duplicate()));
+        assertEquals("test:cached", raw.id());
+
+        final CustomPacketPayload.Type<BrandPayload> type =
+                PayloadType.custom(BrandPayload.class, "test:cached")
+                        .flow(PacketFlow.BIDIRECTIONAL)
+                        .codec(BrandPayload.STREAM_CODEC)
+                        .build();
+        PayloadRegistry.register(type, new PayloadRegistry.Mapping("test:cached"));
+        try {
+            assertEquals(
+                    new BrandPayload("hello"),
+                    CustomPacketPayload.DEFAULT_CODEC.decode(buf.duplicate()));
+        } finally {
+            PayloadRegistry.unregisterCustom("test:cached");
+        }
+        assertInstanceOf(
+                CustomPacketPayload.Raw.class,
+                CustomPacketPayload.DEFAULT_CODEC.decode(buf.duplicate()));
+
+        final FriendlyByteBuf encoded = new FriendlyByteBuf(Unpooled.buffer());
+        CustomPacketPayload.DEFAULT_CODEC.encode(encoded, raw);
+        assertEquals(buf, encoded);
+    }
+
+    @Test
+    public void testCodecCacheEvictsAndIgnoresAnswers() {
+        final Map<String, Integer> resolved = new HashMap<>();
+        final PayloadCodecCache<String> cache =
+                new PayloadCodecCache<>(
+                        id -> {
+                            resolved.merge(id, 1, Integer::sum);
+                            return id.toUpperCase();
+                        });
+        for (int i = 0; i < PayloadCodecCache.SIZE * 4; i++) {
+            cache.codec("junk:" + i);
+        }
+        assertEquals("TEST:REAL", cache.codec("test:real"));
+        assertEquals("TEST:REAL", cache.codec("test:real"));
+        assertEquals(1, resolved.get("test:real"));
+
+        final CustomQueryAnswerPayload.Type<CustomQueryAnswerPayload> type =
+                PayloadType.answer(
+                        CustomQueryAnswerPayload.class, CustomQueryAnswerPayload.DEFAULT_CODEC);
+        PayloadRegistry.batch(batch -> batch.register(type, 7));
+        PayloadRegistry.batch(batch -> batch.unregisterQueryAnswer(7));
+        final PayloadCodecCache.Resolved<String> encoded = cache.encoded("test:real");
+        assertEquals(1, resolved.get("test:real"));
+
+        final FriendlyByteBuf expected = new FriendlyByteBuf(Unpooled.buffer());
+        expected.writeUtf("test:real");
+        assertEquals(expected, new FriendlyByteBuf(Unpooled.wrappedBuffer(encoded.encodedId())));
+        assertSame(encoded, cache.encoded("test:real"));
+    }
+}
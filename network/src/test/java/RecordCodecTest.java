@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import dev.neuralnexus.taterapi.network.FriendlyByteBuf;
+import dev.neuralnexus.taterapi.network.codec.RecordCodecBuilder;
+import dev.neuralnexus.taterapi.network.codec.StreamCodec;
+import dev.neuralnexus.taterapi.network.protocol.handshake.ClientIntent;
+import dev.neuralnexus.taterapi.network.protocol.handshake.ClientIntentionPacket;
+
+import io.netty.buffer.Unpooled;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+
+/** Tests for codecs derived by {@link RecordCodecBuilder}. */
+public class RecordCodecTest {
+    private record Sample(int id, String name, long time, boolean flag) {}
+
+    private record Swapped(String name, int id) {
+        private Swapped(final int id, final String name) {
+            this(name, id);
+        }
+    }
+
+    private static final StreamCodec<FriendlyByteBuf, Sample> SAMPLE_CODEC =
+            RecordCodecBuilder.builder(MethodHandles.lookup(), FriendlyByteBuf.class, Sample.class)
+                    .addInt(FriendlyByteBuf::writeVarInt, FriendlyByteBuf::readVarInt)
+                    .add(FriendlyByteBuf::writeUtf, FriendlyByteBuf::readUtf)
+                    .add(FriendlyByteBuf::writeLong, FriendlyByteBuf::readLong)
+                    .add(FriendlyByteBuf::writeBoolean, FriendlyByteBuf::readBoolean)
+                    .build();
+
+    @Test
+    public void testRoundTrip() {
+        final Sample sample = new Sample(300, "tater", Long.MIN_VALUE, true);
+        final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        SAMPLE_CODEC.encode(buf, sample);
+        assertEquals(sample, SAMPLE_CODEC.decode(buf));
+        assertFalse(buf.isReadable());
+    }
+
+    @Test
+    public void testMatchesHandWrittenCodec() {
+        final StreamCodec<FriendlyByteBuf, ClientIntentionPacket> codec =
+                RecordCodecBuilder.builder(
+                                MethodHandles.lookup(),
+                                FriendlyByteBuf.class,
+                                ClientIntentionPacket.class)
+                        .addInt(FriendlyByteBuf::writeVarInt, FriendlyByteBuf::readVarInt)
+                        .add(FriendlyByteBuf::writeUtf, buf -> buf.readUtf(255))
+                        .addInt(FriendlyByteBuf::writeShort, FriendlyByteBuf::readUnsignedShort)
+                        .add(
+                                (buf, intent) -> buf.writeVarInt(intent.id()),
+                                buf -> ClientIntent.byId(buf.readVarInt()))
+                        .build();
+        final ClientIntentionPacket packet =
+                new ClientIntentionPacket(773, "localhost", 25565, ClientIntent.LOGIN);
+        final FriendlyByteBuf expected = new FriendlyByteBuf(Unpooled.buffer());
+        final FriendlyByteBuf actual = new FriendlyByteBuf(Unpooled.buffer());
+        ClientIntentionPacket.STREAM_CODEC.encode(expected, packet);
+        codec.encode(actual, packet);
+        assertArrayEquals(bytes(expected), bytes(actual));
+        assertEquals(packet, codec.decode(actual));
+    }
+
+    @Test
+    public void testDecodesInComponentOrder() {
+        final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        buf.writeVarInt(1).writeUtf("a").writeLong(2).writeBoolean(false);
+        assertEquals(new Sample(1, "a", 2, false), SAMPLE_CODEC.decode(buf));
+    }
+
+    @Test
+    public void testUsesCanonicalConstructor() {
+        final StreamCodec<FriendlyByteBuf, Swapped> codec =
+                RecordCodecBuilder.builder(
+                                MethodHandles.lookup(), FriendlyByteBuf.class, Swapped.class)
+                        .add(FriendlyByteBuf::writeUtf, FriendlyByteBuf::readUtf)
+                        .addInt(FriendlyByteBuf::writeVarInt, FriendlyByteBuf::readVarInt)
+                        .build();
+        final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        codec.encode(buf, new Swapped("tater", 7));
+        assertEquals("tater", buf.readUtf());
+        assertEquals(7, buf.readVarInt());
+        buf.resetReaderIndex();
+        assertEquals(new Swapped("tater", 7), codec.decode(buf));
+    }
+
+    @Test
+    public void testRejectsMissingAndExtraComponents() {
+        assertThrows(
+                IllegalStateException.class,
+                () ->
+                        RecordCodecBuilder.builder(
+                                        MethodHandles.lookup(), FriendlyByteBuf.class, Sample.class)
+                                .addInt(FriendlyByteBuf::writeVarInt, FriendlyByteBuf::readVarInt)
+                                .build());
+        final RecordCodecBuilder<FriendlyByteBuf, Sample> builder =
+                RecordCodecBuilder.builder(
+                                MethodHandles.lookup(), FriendlyByteBuf.class, Sample.class)
+                        .addInt(FriendlyByteBuf::writeVarInt, FriendlyByteBuf::readVarInt)
+                        .add(FriendlyByteBuf::writeUtf, FriendlyByteBuf::readUtf)
+                        .add(FriendlyByteBuf::writeLong, FriendlyByteBuf::readLong)
+                        .add(FriendlyByteBuf::writeBoolean, FriendlyByteBuf::readBoolean);
+        assertThrows(
+                IllegalStateException.class,
+                () -> builder.add(FriendlyByteBuf::writeBoolean, FriendlyByteBuf::readBoolean));
+    }
+
+    private static byte[] bytes(final FriendlyByteBuf buf) {
+        final byte[] bytes = new byte[buf.readableBytes()];
+        buf.getBytes(buf.readerIndex(), bytes);
+        return bytes;
+    }
+}
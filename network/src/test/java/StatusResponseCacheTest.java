@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.google.gson.JsonObject;
+
+import dev.neuralnexus.taterapi.network.FriendlyByteBuf;
+import dev.neuralnexus.taterapi.network.protocol.status.ClientboundStatusResponsePacket;
+import dev.neuralnexus.taterapi.network.protocol.status.ServerStatus;
+import dev.neuralnexus.taterapi.network.protocol.status.StatusResponseCache;
+
+import io.netty.buffer.Unpooled;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/** Tests for the cached status response frame. */
+public class StatusResponseCacheTest {
+    private static ServerStatus status(final int online) {
+        final JsonObject description = new JsonObject();
+        description.addProperty("text", "A Minecraft Server");
+        return new ServerStatus(
+                description,
+                Optional.of(new ServerStatus.Players(20, online, List.of())),
+                Optional.of(new ServerStatus.Version("1.21.1", 767)),
+                Optional.empty(),
+                false);
+    }
+
+    @Test
+    public void testFrameMatchesCodec() {
+        final ServerStatus status = status(1);
+        final byte[] frame = new StatusResponseCache().frame(status);
+        final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.wrappedBuffer(frame));
+        assertEquals(ServerStatus.CODEC.encode(status).result().orElseThrow(), buf.readUtf());
+        assertEquals(0, buf.readableBytes());
+    }
+
+    @Test
+    public void testRebuildsOnChange() {
+        final StatusResponseCache cache = new StatusResponseCache();
+        final byte[] frame = cache.frame(status(1));
+        assertSame(frame, cache.frame(status(1)));
+        assertNotSame(frame, cache.frame(status(2)));
+    }
+
+    @Test
+    public void testTtl() {
+        final StatusResponseCache cache = new StatusResponseCache(Duration.ofMinutes(1));
+        final byte[] frame = cache.frame(status(1));
+        assertSame(frame, cache.frame(status(2)));
+        assertSame(
+                frame,
+                cache.frame(
+                        () -> {
+                            throw new AssertionError("Status built before the TTL expired");
+                        }));
+        cache.invalidate();
+        assertNotSame(frame, cache.frame(status(2)));
+    }
+
+    private static int online(final ClientboundStatusResponsePacket packet) {
+        final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        ClientboundStatusResponsePacket.STREAM_CODEC.encode(buf, packet);
+        return ClientboundStatusResponsePacket.STREAM_CODEC
+                .decode(buf)
+                .status()
+                .players()
+                .orElseThrow()
+                .online();
+    }
+
+    @Test
+    public void testPacketEncodesItsOwnStatus() {
+        final StatusResponseCache cache = new StatusResponseCache(Duration.ofMinutes(1));
+        final ClientboundStatusResponsePacket cached = cache.packet(status(1));
+        assertEquals(1, online(cached));
+        assertEquals(2, online(new ClientboundStatusResponsePacket(status(2))));
+
+        // Within the TTL the earlier status is served, along with its own frame
+        final ClientboundStatusResponsePacket stale = cache.packet(status(3));
+        assertSame(cached.status(), stale.status());
+        assertEquals(1, online(stale));
+    }
+
+    @Test
+    public void testRebuildsOnChangeInPlace() {
+        final ServerStatus status = status(1);
+        final StatusResponseCache cache = new StatusResponseCache();
+        final byte[] frame = cache.frame(status);
+        assertSame(frame, cache.frame(status));
+        status.description().addProperty("text", "Changed");
+        final byte[] changed = cache.frame(status);
+        assertNotSame(frame, changed);
+        final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.wrappedBuffer(changed));
+        assertEquals(ServerStatus.CODEC.encode(status).result().orElseThrow(), buf.readUtf());
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import dev.neuralnexus.taterapi.network.FriendlyByteBuf;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.DecoderException;
+import io.netty.handler.codec.EncoderException;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+/** Tests for UTF-8 string encoding and interned reads. */
+public class Utf8StringTest {
+    private static final String[] SAMPLES = {
+        "", "minecraft:brand", "ünïcödé", "✓ check", "emoji 🍔 pair", "x".repeat(200)
+    };
+
+    @Test
+    public void testRoundTrip() {
+        for (final String sample : SAMPLES) {
+            final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+            buf.writeUtf(sample);
+            buf.writeByte(42);
+            assertEquals(sample, buf.readUtf());
+            assertEquals(42, buf.readByte());
+        }
+    }
+
+    @Test
+    public void testMatchesGetBytesEncoding() {
+        for (final String sample : SAMPLES) {
+            final byte[] bytes = sample.getBytes(StandardCharsets.UTF_8);
+            final ByteBuf expected = Unpooled.buffer();
+            new FriendlyByteBuf(expected).writeVarInt(bytes.length).writeBytes(bytes);
+
+            final FriendlyByteBuf actual = new FriendlyByteBuf(Unpooled.buffer());
+            actual.writeUtf(sample);
+            assertArrayEquals(toArray(expected), toArray(actual));
+        }
+    }
+
+    @Test
+    public void testInternedReadReturnsCanonicalInstance() {
+        for (final String sample : SAMPLES) {
+            final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+            buf.writeUtf(sample).writeUtf(sample);
+            final String first = buf.readUtfInterned();
+            final String second = buf.readUtfInterned();
+            assertEquals(sample, first);
+            assertEquals(sample, second);
+            if (sample.length() <= 64) {
+                assertSame(first, second);
+            }
+            assertEquals(0, buf.readableBytes());
+        }
+    }
+
+    @Test
+    public void testInternedReadRespectsMaxLength() {
+        final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        buf.writeUtf("minecraft:brand");
+        assertThrows(DecoderException.class, () -> buf.readUtfInterned(4));
+    }
+
+    @Test
+    public void testTooBig() {
+        final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        // 3 chars, 6 bytes encoded
+        assertThrows(EncoderException.class, () -> buf.writeUtf("üüü", 5));
+        assertEquals(0, buf.writerIndex());
+    }
+
+    private static byte[] toArray(final ByteBuf buf) {
+        final byte[] bytes = new byte[buf.readableBytes()];
+        buf.getBytes(buf.readerIndex(), bytes);
+        return bytes;
+    }
+}
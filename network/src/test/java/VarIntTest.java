@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2026 Dylan Sperrer - dylan@neuralnexus.dev
+ * This project is Licensed under <a href="https://github.com/p0t4t0sandwich/TaterLibLite/blob/main/LICENSE">MIT</a>
+ */
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import dev.neuralnexus.taterapi.network.FriendlyByteBuf;
+import dev.neuralnexus.taterapi.network.VarLong;
+
+import org.junit.jupiter.api.Test;
+
+/** Tests for the VarInt and VarLong fast paths. */
+public class VarIntTest {
+    private static final int[] INTS = {
+        0,
+        1,
+        127,
+        128,
+        255,
+        16383,
+        16384,
+        2097151,
+        2097152,
+        268435455,
+        268435456,
+        Integer.MAX_VALUE,
+        -1,
+        Integer.MIN_VALUE
+    };
+    private static final long[] LONGS = {
+        0L,
+        1L,
+        127L,
+        128L,
+        16384L,
+        1L << 35,
+        1L << 49,
+        (1L << 56) - 1,
+        1L << 56,
+        1L << 63,
+        Long.MAX_VALUE,
+        -1L,
+        Long.MIN_VALUE
+    };
+
+    @Test
+    public void testVarIntRoundTrip() {
+        for (final int value : INTS) {
+            final FriendlyByteBuf buf = new FriendlyByteBuf();
+            buf.writeVarInt(value);
+            assertEquals(expectedVarIntSize(value), buf.readableBytes());
+            assertEquals(value, buf.readVarInt());
+            assertEquals(0, buf.readableBytes());
+
+            // Bytes after the VarInt are left unread
+            buf.clear().writeVarInt(value).writeInt(-1);
+            assertEquals(value, buf.readVarInt());
+            assertEquals(Integer.BYTES, buf.readableBytes());
+        }
+    }
+
+    @Test
+    public void testVarIntTooBig() {
+        final FriendlyByteBuf buf = new FriendlyByteBuf();
+        buf.writeBytes(new byte[] {-1, -1, -1, -1, -1, 1});
+        assertThrows(RuntimeException.class, buf::readVarInt);
+    }
+
+    @Test
+    public void testVarLongRoundTrip() {
+        for (final long value : LONGS) {
+            final FriendlyByteBuf buf = new FriendlyByteBuf();
+            VarLong.write(buf, value);
+            assertEquals(expectedVarLongSize(value), buf.readableBytes());
+            assertEquals(expectedVarLongSize(value), VarLong.getByteSize(value));
+            assertEquals(value, VarLong.read(buf));
+            assertEquals(0, buf.readableBytes());
+
+            buf.clear();
+            VarLong.write(buf, value);
+            buf.writeLong(-1L);
+            assertEquals(value, VarLong.read(buf));
+            assertEquals(Long.BYTES, buf.readableBytes());
+        }
+    }
+
+    private static int expectedVarIntSize(final int value) {
+        int size = 1;
+        int remaining = value;
+        while ((remaining & -128) != 0) {
+            remaining >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    private static int expectedVarLongSize(final long value) {
+        int size = 1;
+        long remaining = value;
+        while ((remaining & -128L) != 0L) {
+            remaining >>>= 7;
+            size++;
+        }
+        return size;
+    }
+}